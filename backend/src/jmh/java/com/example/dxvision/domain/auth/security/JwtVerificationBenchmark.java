@@ -0,0 +1,64 @@
+package com.example.dxvision.domain.auth.security;
+
+import com.example.dxvision.domain.auth.security.VerifiedTokenCache.VerifiedToken;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cold signature verification (parse + HMAC + claim extraction) vs. a verified-claims cache hit
+ * for the same bearer token, as seen when the SPA fires parallel requests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+    private static final String SECRET = "benchmark-secret-32-bytes-minimum-length!!";
+
+    private JwtTokenProvider provider;
+    private VerifiedTokenCache cache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cache = new VerifiedTokenCache(10_000, new SimpleMeterRegistry());
+        // 상태 캐시는 verify 경로에서 사용하지 않음
+        provider = new JwtTokenProvider(SECRET, 3_600_000L, null, cache);
+        Date now = new Date();
+        token = Jwts.builder()
+                .subject("bench@example.com")
+                .claim("role", "USER")
+                .claim("userId", 1L)
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + 3_600_000L))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+        cache.getOrVerify(token, provider::verify);
+    }
+
+    @Benchmark
+    public VerifiedToken coldVerify() {
+        return provider.verify(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal cachedVerify() {
+        return cache.getOrVerify(token, provider::verify);
+    }
+}
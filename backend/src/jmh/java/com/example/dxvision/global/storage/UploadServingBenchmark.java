@@ -0,0 +1,158 @@
+package com.example.dxvision.global.storage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.CacheControl;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+/**
+ * Throughput of the previous {@code /uploads/**} resource handler vs. {@link UploadController} with
+ * 8 threads fetching the same case image, as when a quiz round opens for many users at once. The
+ * {@code revalidate} variants send the validator a browser holds after the first load. Bodies go to a
+ * discarding stream, so this measures the in-process path; the kernel sendfile hand-off only happens
+ * behind a real Tomcat connector.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class UploadServingBenchmark {
+    private static final ServletOutputStream DISCARD = new ServletOutputStream() {
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+        }
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    // 썸네일 / 중간 렌디션 크기대
+    @Param({"24576", "524288"})
+    public int bytes;
+
+    private Path uploadDir;
+    private String url;
+    private String etag;
+    private String lastModified;
+    private ResourceHttpRequestHandler resourceHandler;
+    private UploadController uploadController;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        uploadDir = Files.createTempDirectory("upload-bench");
+        FileStorageService storage = new FileStorageService(
+                uploadDir.toString(), true, DataSize.ofMegabytes(50), List.of(), new SimpleMeterRegistry());
+        byte[] content = new byte[bytes];
+        ThreadLocalRandom.current().nextBytes(content);
+        url = storage.store(new MockMultipartFile("image", "case.jpg", "image/jpeg", content));
+
+        resourceHandler = new ResourceHttpRequestHandler();
+        resourceHandler.setLocations(List.of(new FileSystemResource(uploadDir.toString() + "/")));
+        resourceHandler.setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable());
+        resourceHandler.setServletContext(new MockServletContext());
+        resourceHandler.afterPropertiesSet();
+        uploadController = new UploadController(storage);
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        uploadController.serve(new MockHttpServletRequest("GET", url), first);
+        etag = first.getHeader("ETag");
+        MockHttpServletResponse legacy = new MockHttpServletResponse();
+        resourceHandler.handleRequest(legacyRequest(), legacy);
+        lastModified = legacy.getHeader("Last-Modified");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(uploadDir);
+    }
+
+    @Benchmark
+    public int resourceHandler() throws Exception {
+        MockHttpServletResponse response = discardingResponse();
+        resourceHandler.handleRequest(legacyRequest(), response);
+        return response.getStatus();
+    }
+
+    @Benchmark
+    public int uploadController() throws IOException {
+        MockHttpServletResponse response = discardingResponse();
+        uploadController.serve(new MockHttpServletRequest("GET", url), response);
+        return response.getStatus();
+    }
+
+    @Benchmark
+    public int resourceHandlerRevalidate() throws Exception {
+        MockHttpServletRequest request = legacyRequest();
+        request.addHeader("If-Modified-Since", lastModified);
+        MockHttpServletResponse response = discardingResponse();
+        resourceHandler.handleRequest(request, response);
+        return response.getStatus();
+    }
+
+    @Benchmark
+    public int uploadControllerRevalidate() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", url);
+        request.addHeader("If-None-Match", etag);
+        MockHttpServletResponse response = discardingResponse();
+        uploadController.serve(request, response);
+        return response.getStatus();
+    }
+
+    private MockHttpServletRequest legacyRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", url);
+        request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, url.substring("/uploads/".length()));
+        return request;
+    }
+
+    private static MockHttpServletResponse discardingResponse() {
+        return new MockHttpServletResponse() {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                return DISCARD;
+            }
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.dxvision.domain.admin.controller;
+
+import com.example.dxvision.domain.admin.dto.ActivityBackfillResponse;
+import com.example.dxvision.domain.progress.service.ActivityBackfillService;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/activity")
+public class AdminActivityController {
+    private final ActivityBackfillService activityBackfillService;
+
+    public AdminActivityController(ActivityBackfillService activityBackfillService) {
+        this.activityBackfillService = activityBackfillService;
+    }
+
+    @PostMapping("/backfill")
+    public ActivityBackfillResponse backfill(@RequestParam(value = "userId", required = false) Long userId) {
+        if (userId != null) {
+            return activityBackfillService.backfillUser(userId);
+        }
+        return activityBackfillService.backfillAll();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.dxvision.domain.admin.controller;
+
+import com.example.dxvision.domain.admin.dto.AdminUploadResponse;
+import com.example.dxvision.global.storage.FileStorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Raw-body image upload for bulk case imports: the request stream is written straight into the store
+ * (no multipart parsing or temp part), and the returned {@code imageUrl} is then passed to case
+ * create/update instead of a file part.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/uploads")
+public class AdminUploadController {
+    private final FileStorageService fileStorageService;
+
+    public AdminUploadController(FileStorageService fileStorageService) {
+        this.fileStorageService = fileStorageService;
+    }
+
+    @PostMapping(consumes = {"image/*", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    @ResponseStatus(HttpStatus.CREATED)
+    public AdminUploadResponse upload(HttpServletRequest request) throws IOException {
+        try (InputStream body = request.getInputStream()) {
+            return AdminUploadResponse.from(
+                    fileStorageService.storeStream(body, request.getContentLengthLong(), request.getContentType()));
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.example.dxvision.domain.admin.controller;
 
+import com.example.dxvision.domain.admin.dto.AdminUserCaseProgressDto;
 import com.example.dxvision.domain.admin.dto.AdminUserDetailResponse;
 import com.example.dxvision.domain.admin.dto.AdminUserListItem;
 import com.example.dxvision.domain.admin.dto.AdminUserUpdateRequest;
 import com.example.dxvision.domain.admin.dto.PageResponse;
 import com.example.dxvision.domain.admin.service.AdminUserService;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Sort;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -27,9 +29,13 @@ public class AdminUserController {
     public PageResponse<AdminUserListItem> listUsers(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(value = "q", required = false) String q
+            @RequestParam(value = "q", required = false) String q,
+            @RequestParam(required = false) String sort
     ) {
-        return adminUserService.listUsers(page, size, q);
+        Sort sortSpec = sort == null || sort.isBlank()
+                ? Sort.by(Sort.Direction.DESC, "createdAt")
+                : parseSort(sort);
+        return adminUserService.listUsers(page, size, q, sortSpec);
     }
 
     @GetMapping("/{userId}")
@@ -37,6 +43,17 @@ public class AdminUserController {
         return adminUserService.getUserDetail(userId);
     }
 
+    @GetMapping("/{userId}/cases")
+    public PageResponse<AdminUserCaseProgressDto> listUserCases(
+            @PathVariable Long userId,
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort
+    ) {
+        return adminUserService.listUserCases(userId, status, page, size, parseSort(sort));
+    }
+
     @PatchMapping("/{userId}")
     public AdminUserDetailResponse updateStatus(
             @PathVariable Long userId,
@@ -44,4 +61,16 @@ public class AdminUserController {
     ) {
         return adminUserService.updateUserStatus(userId, request);
     }
+
+    private Sort parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.by(Sort.Direction.ASC, "title");
+        }
+        String[] parts = sort.split(",");
+        if (parts.length == 2) {
+            Sort.Direction direction = Sort.Direction.fromOptionalString(parts[1].trim()).orElse(Sort.Direction.ASC);
+            return Sort.by(direction, parts[0].trim());
+        }
+        return Sort.by(Sort.Direction.ASC, sort.trim());
+    }
 }
@@ -11,6 +11,9 @@ import com.example.dxvision.domain.admin.service.AdminCaseService;
 import com.example.dxvision.domain.casefile.Modality;
 import com.example.dxvision.domain.casefile.LesionShapeType;
 import com.example.dxvision.domain.casefile.Species;
+import com.example.dxvision.domain.casefile.dto.CaseCursor;
+import com.example.dxvision.domain.casefile.dto.CursorPageResponse;
+import com.example.dxvision.domain.casefile.service.CaseImageDerivativeService;
 import com.example.dxvision.global.storage.FileStorageService;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -30,6 +33,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
@@ -40,15 +44,18 @@ import org.springframework.web.server.ResponseStatusException;
 public class ImageCaseAdminController {
 
     private final AdminCaseService adminCaseService;
+    private final CaseImageDerivativeService caseImageDerivativeService;
     private final FileStorageService fileStorageService;
     private final ObjectMapper objectMapper;
 
     public ImageCaseAdminController(
             AdminCaseService adminCaseService,
+            CaseImageDerivativeService caseImageDerivativeService,
             FileStorageService fileStorageService,
             ObjectMapper objectMapper
     ) {
         this.adminCaseService = adminCaseService;
+        this.caseImageDerivativeService = caseImageDerivativeService;
         this.fileStorageService = fileStorageService;
         this.objectMapper = objectMapper;
     }
@@ -69,20 +76,22 @@ public class ImageCaseAdminController {
             @RequestParam(value = "lesionY", required = false) Double lesionY,
             @RequestParam(value = "lesionW", required = false) Double lesionW,
             @RequestParam(value = "lesionH", required = false) Double lesionH,
-            @RequestParam(value = "findings", required = false) String findingsJson,
-            @RequestParam(value = "diagnoses", required = false) String diagnosesJson,
+            @RequestPart(value = "findings", required = false) String findingsJson,
+            @RequestPart(value = "diagnoses", required = false) String diagnosesJson,
             @RequestParam(value = "expertFindingExplanation", required = false) String expertFindingExplanation,
             @RequestParam(value = "expertDiagnosisExplanation", required = false) String expertDiagnosisExplanation,
             @RequestParam(value = "expertLocationExplanation", required = false) String expertLocationExplanation,
 
-            // ✅ 파일만 MultipartFile
-            @RequestParam("image") MultipartFile image
+            // ✅ 파일만 MultipartFile (또는 /api/v1/admin/uploads 로 먼저 올린 imageUrl)
+            @RequestParam(value = "image", required = false) MultipartFile image,
+            @RequestParam(value = "imageUrl", required = false) String uploadedImageUrl
     ) {
-        if (image == null || image.isEmpty()) {
+        boolean hasFile = image != null && !image.isEmpty();
+        if (!hasFile && !StringUtils.hasText(uploadedImageUrl)) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Image is required");
         }
 
-        String storedImageUrl = fileStorageService.store(image);
+        String storedImageUrl = hasFile ? fileStorageService.store(image) : requireUploaded(uploadedImageUrl);
         try {
             AdminCaseUpsertRequest request = buildRequest(
                     title,
@@ -106,7 +115,9 @@ public class ImageCaseAdminController {
             );
             return adminCaseService.createCase(request);
         } catch (Exception ex) {
-            fileStorageService.deleteIfLocal(storedImageUrl);
+            if (hasFile) {
+                fileStorageService.deleteIfLocal(storedImageUrl);
+            }
             throw ex;
         }
     }
@@ -128,18 +139,22 @@ public class ImageCaseAdminController {
             @RequestParam(value = "lesionY", required = false) Double lesionY,
             @RequestParam(value = "lesionW", required = false) Double lesionW,
             @RequestParam(value = "lesionH", required = false) Double lesionH,
-            @RequestParam(value = "findings", required = false) String findingsJson,
-            @RequestParam(value = "diagnoses", required = false) String diagnosesJson,
+            @RequestPart(value = "findings", required = false) String findingsJson,
+            @RequestPart(value = "diagnoses", required = false) String diagnosesJson,
             @RequestParam(value = "expertFindingExplanation", required = false) String expertFindingExplanation,
             @RequestParam(value = "expertDiagnosisExplanation", required = false) String expertDiagnosisExplanation,
             @RequestParam(value = "expertLocationExplanation", required = false) String expertLocationExplanation,
 
             // ✅ 파일만 MultipartFile (수정은 선택)
-            @RequestParam(value = "image", required = false) MultipartFile image
+            @RequestParam(value = "image", required = false) MultipartFile image,
+            @RequestParam(value = "imageUrl", required = false) String uploadedImageUrl
     ) {
+        boolean hasFile = image != null && !image.isEmpty();
         String storedImageUrl = null;
-        if (image != null && !image.isEmpty()) {
+        if (hasFile) {
             storedImageUrl = fileStorageService.store(image);
+        } else if (StringUtils.hasText(uploadedImageUrl)) {
+            storedImageUrl = requireUploaded(uploadedImageUrl);
         }
 
         try {
@@ -165,7 +180,8 @@ public class ImageCaseAdminController {
             );
             return ResponseEntity.ok(adminCaseService.updateCase(caseId, request));
         } catch (Exception ex) {
-            if (storedImageUrl != null) {
+            // 미리 올린 업로드는 클라이언트가 재시도할 수 있도록 남겨 둠
+            if (hasFile) {
                 fileStorageService.deleteIfLocal(storedImageUrl);
             }
             throw ex;
@@ -186,6 +202,15 @@ public class ImageCaseAdminController {
         return adminCaseService.listCases(pageable, includeDeleted);
     }
 
+    @GetMapping("/scroll")
+    public CursorPageResponse<AdminCaseListItem> scroll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeDeleted
+    ) {
+        return adminCaseService.scrollCases(CaseCursor.decode(cursor), Math.max(size, 1), includeDeleted);
+    }
+
     @GetMapping("/{caseId}")
     public AdminCaseResponse get(
             @PathVariable Long caseId,
@@ -200,6 +225,12 @@ public class ImageCaseAdminController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/{caseId}/derivatives")
+    public ResponseEntity<Void> regenerateDerivatives(@PathVariable Long caseId) {
+        caseImageDerivativeService.regenerate(caseId);
+        return ResponseEntity.accepted().build();
+    }
+
     @PostMapping("/{caseId}/restore")
     public ResponseEntity<Void> restore(@PathVariable Long caseId) {
         adminCaseService.restoreCase(caseId);
@@ -293,4 +324,11 @@ public class ImageCaseAdminController {
         }
         return input.trim();
     }
+
+    private String requireUploaded(String imageUrl) {
+        if (!fileStorageService.isStored(imageUrl)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown imageUrl");
+        }
+        return imageUrl;
+    }
 }
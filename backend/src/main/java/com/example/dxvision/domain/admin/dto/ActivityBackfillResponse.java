@@ -0,0 +1,7 @@
+package com.example.dxvision.domain.admin.dto;
+
+public record ActivityBackfillResponse(
+        int users,
+        long days
+) {
+}
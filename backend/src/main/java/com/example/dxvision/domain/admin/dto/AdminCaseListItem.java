@@ -1,5 +1,6 @@
 package com.example.dxvision.domain.admin.dto;
 
+import com.example.dxvision.domain.casefile.DerivativeStatus;
 import com.example.dxvision.domain.casefile.Modality;
 import com.example.dxvision.domain.casefile.Species;
 import java.time.Instant;
@@ -10,6 +11,7 @@ public record AdminCaseListItem(
         String title,
         Modality modality,
         Species species,
+        DerivativeStatus derivativeStatus,
         Instant deletedAt,
         Instant updatedAt
 ) {
@@ -1,5 +1,6 @@
 package com.example.dxvision.domain.admin.dto;
 
+import com.example.dxvision.domain.casefile.DerivativeStatus;
 import com.example.dxvision.domain.casefile.LesionShapeType;
 import com.example.dxvision.domain.casefile.Modality;
 import com.example.dxvision.domain.casefile.Species;
@@ -14,6 +15,8 @@ public record AdminCaseResponse(
         Modality modality,
         Species species,
         String imageUrl,
+        DerivativeStatus derivativeStatus,
+        String derivativeError,
         String expertFindingExplanation,
         String expertDiagnosisExplanation,
         String expertLocationExplanation,
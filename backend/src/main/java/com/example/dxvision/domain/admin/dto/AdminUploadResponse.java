@@ -0,0 +1,13 @@
+package com.example.dxvision.domain.admin.dto;
+
+import com.example.dxvision.global.storage.StoredUpload;
+
+public record AdminUploadResponse(
+        String imageUrl,
+        String contentType,
+        long size
+) {
+    public static AdminUploadResponse from(StoredUpload upload) {
+        return new AdminUploadResponse(upload.url(), upload.contentType(), upload.size());
+    }
+}
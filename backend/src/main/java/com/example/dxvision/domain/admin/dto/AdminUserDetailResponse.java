@@ -14,6 +14,7 @@ public record AdminUserDetailResponse(
         Instant createdAt,
         AdminUserStats stats,
         List<AdminUserCaseProgressDto> caseProgress,
+        long caseProgressTotal,
         List<AdminUserActivityDto> recentActivities
 ) {
 }
@@ -15,6 +15,11 @@ import com.example.dxvision.domain.casefile.Diagnosis;
 import com.example.dxvision.domain.casefile.Finding;
 import com.example.dxvision.domain.casefile.ImageCase;
 import com.example.dxvision.domain.casefile.LesionShapeType;
+import com.example.dxvision.domain.casefile.dto.CaseCursor;
+import com.example.dxvision.domain.casefile.dto.CursorPageResponse;
+import com.example.dxvision.domain.casefile.event.CaseImageStoredEvent;
+import com.example.dxvision.domain.casefile.event.ImageCaseChangedEvent;
+import com.example.dxvision.domain.casefile.event.ImageCaseChangedEvent.ChangeType;
 import com.example.dxvision.domain.repository.DiagnosisRepository;
 import com.example.dxvision.domain.repository.FindingRepository;
 import com.example.dxvision.domain.repository.ImageCaseRepository;
@@ -32,6 +37,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -42,24 +49,29 @@ import org.springframework.web.server.ResponseStatusException;
 
 @Service
 public class AdminCaseService {
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final ImageCaseRepository imageCaseRepository;
     private final FindingRepository findingRepository;
     private final DiagnosisRepository diagnosisRepository;
     private final FileStorageService fileStorageService;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AdminCaseService(
             ImageCaseRepository imageCaseRepository,
             FindingRepository findingRepository,
             DiagnosisRepository diagnosisRepository,
             FileStorageService fileStorageService,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.imageCaseRepository = imageCaseRepository;
         this.findingRepository = findingRepository;
         this.diagnosisRepository = diagnosisRepository;
         this.fileStorageService = fileStorageService;
         this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -87,6 +99,8 @@ public class AdminCaseService {
         imageCase.replaceDiagnoses(applyDiagnosisConfig(request.diagnoses()));
 
         ImageCase saved = imageCaseRepository.save(imageCase);
+        eventPublisher.publishEvent(new ImageCaseChangedEvent(saved.getId(), ChangeType.CREATED));
+        eventPublisher.publishEvent(new CaseImageStoredEvent(saved.getId(), saved.getImageUrl()));
         return toResponse(saved);
     }
 
@@ -161,12 +175,16 @@ public class AdminCaseService {
         if (metadataChanged || correctnessChanged) {
             imageCase.incrementVersion();
         }
+        // 보기 목록만 바뀐 경우에도 상세 ETag/Last-Modified 가 바뀌도록
+        imageCase.touch();
 
-        // 이미지 교체된 경우 이전 파일 삭제
+        // 이미지 교체된 경우 이전 파일 삭제 + 새 렌디션 생성
         if (!Objects.equals(previousImageUrl, nextImageUrl)) {
             fileStorageService.deleteIfLocal(previousImageUrl);
+            eventPublisher.publishEvent(new CaseImageStoredEvent(imageCase.getId(), nextImageUrl));
         }
 
+        eventPublisher.publishEvent(new ImageCaseChangedEvent(imageCase.getId(), ChangeType.UPDATED));
         return toResponse(imageCase);
     }
 
@@ -176,16 +194,51 @@ public class AdminCaseService {
                 ? imageCaseRepository.findAllIncludingDeleted(pageable)
                 : imageCaseRepository.findAll(pageable);
 
-        Page<AdminCaseListItem> mapped = page.map(ic -> new AdminCaseListItem(
+        Page<AdminCaseListItem> mapped = page.map(this::toListItem);
+        return PageResponse.of(mapped);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<AdminCaseListItem> scrollCases(CaseCursor cursor, int size, boolean includeDeleted) {
+        size = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+        int limit = size + 1;
+        List<ImageCase> rows;
+        if (includeDeleted) {
+            rows = cursor == null
+                    ? imageCaseRepository.findFirstPageIncludingDeleted(limit)
+                    : imageCaseRepository.findPageAfterIncludingDeleted(cursor.updatedAt(), cursor.id(), limit);
+        } else {
+            rows = cursor == null
+                    ? imageCaseRepository.findAllByOrderByUpdatedAtDescIdDesc(Limit.of(limit))
+                    : imageCaseRepository.findPageAfter(cursor.updatedAt(), cursor.id(), Limit.of(limit));
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<ImageCase> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            ImageCase last = pageRows.getLast();
+            nextCursor = new CaseCursor(last.getUpdatedAt(), last.getId()).encode();
+        }
+        return new CursorPageResponse<>(
+                pageRows.stream().map(this::toListItem).toList(),
+                size,
+                nextCursor,
+                hasNext
+        );
+    }
+
+    private AdminCaseListItem toListItem(ImageCase ic) {
+        return new AdminCaseListItem(
                 ic.getId(),
                 ic.getVersion(),
                 ic.getTitle(),
                 ic.getModality(),
                 ic.getSpecies(),
+                ic.getDerivativeStatus(),
                 ic.getDeletedAt(),
                 ic.getUpdatedAt()
-        ));
-        return PageResponse.of(mapped);
+        );
     }
 
     @Transactional(readOnly = true)
@@ -202,6 +255,7 @@ public class AdminCaseService {
         ImageCase imageCase = imageCaseRepository.findWithOptionsById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Case not found"));
         imageCase.softDelete();
+        eventPublisher.publishEvent(new ImageCaseChangedEvent(id, ChangeType.DELETED));
     }
 
     @Transactional
@@ -209,6 +263,7 @@ public class AdminCaseService {
         ImageCase imageCase = imageCaseRepository.findByIdIncludingDeleted(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Case not found"));
         imageCase.restore();
+        eventPublisher.publishEvent(new ImageCaseChangedEvent(id, ChangeType.RESTORED));
     }
 
     private void validateRequest(AdminCaseUpsertRequest request, boolean imageRequired) {
@@ -484,6 +539,8 @@ public class AdminCaseService {
                 imageCase.getModality(),
                 imageCase.getSpecies(),
                 imageCase.getImageUrl(),
+                imageCase.getDerivativeStatus(),
+                imageCase.getDerivativeError(),
                 imageCase.getExpertFindingExplanation(),
                 imageCase.getExpertDiagnosisExplanation(),
                 imageCase.getExpertLocationExplanation(),
@@ -11,28 +11,29 @@ import com.example.dxvision.domain.attempt.Attempt;
 import com.example.dxvision.domain.auth.Role;
 import com.example.dxvision.domain.auth.User;
 import com.example.dxvision.domain.auth.UserStatus;
-import com.example.dxvision.domain.casefile.ImageCase;
+import com.example.dxvision.domain.auth.security.UserStatusCache;
 import com.example.dxvision.domain.progress.ProgressRules;
 import com.example.dxvision.domain.progress.UserCaseProgress;
 import com.example.dxvision.domain.progress.UserCaseStatus;
 import com.example.dxvision.domain.repository.AttemptRepository;
 import com.example.dxvision.domain.repository.ImageCaseRepository;
 import com.example.dxvision.domain.repository.UserCaseProgressRepository;
-import com.example.dxvision.domain.repository.UserProgressAggregate;
 import com.example.dxvision.domain.repository.UserRepository;
-import java.time.Instant;
-import java.util.Comparator;
-import java.util.HashMap;
+import com.example.dxvision.domain.repository.UserStatsRepository;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.JpaSort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,49 +41,94 @@ import org.springframework.web.server.ResponseStatusException;
 
 @Service
 public class AdminUserService {
+    private static final Logger log = LoggerFactory.getLogger(AdminUserService.class);
     private static final AdminUserStats EMPTY_STATS = new AdminUserStats(0, 0, 0, 0, null);
+    private static final int DETAIL_CASE_PROGRESS_SIZE = 20;
+    private static final int MAX_CASE_PAGE_SIZE = 100;
+    private static final Map<String, String> USER_SORT_COLUMNS = Map.of(
+            "createdAt", "u.createdAt",
+            "email", "u.email",
+            "name", "u.name",
+            "attemptedCount", "s.attemptCount",
+            "correctCount", "s.correctCount",
+            "wrongCount", "s.wrongCount",
+            "lastActiveAt", "s.lastAttemptAt"
+    );
+    private static final Set<String> CASE_SORT_PROPERTIES = Set.of(
+            "caseId", "title", "status", "attemptCount", "lastAttemptAt"
+    );
 
     private final UserRepository userRepository;
     private final UserCaseProgressRepository userCaseProgressRepository;
     private final ImageCaseRepository imageCaseRepository;
     private final AttemptRepository attemptRepository;
+    private final UserStatsRepository userStatsRepository;
+    private final UserStatusCache userStatusCache;
 
     public AdminUserService(
             UserRepository userRepository,
             UserCaseProgressRepository userCaseProgressRepository,
             ImageCaseRepository imageCaseRepository,
-            AttemptRepository attemptRepository
+            AttemptRepository attemptRepository,
+            UserStatsRepository userStatsRepository,
+            UserStatusCache userStatusCache
     ) {
         this.userRepository = userRepository;
         this.userCaseProgressRepository = userCaseProgressRepository;
         this.imageCaseRepository = imageCaseRepository;
         this.attemptRepository = attemptRepository;
+        this.userStatsRepository = userStatsRepository;
+        this.userStatusCache = userStatusCache;
+    }
+
+    /**
+     * Fills search keys for users created before the columns existed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void fillMissingSearchKeys() {
+        int filled = userRepository.fillMissingSearchKeys();
+        if (filled > 0) {
+            log.info("Filled search keys for {} users", filled);
+        }
     }
 
     @Transactional(readOnly = true)
-    public PageResponse<AdminUserListItem> listUsers(int page, int size, String q) {
-        Pageable pageable = PageRequest.of(
-                Math.max(page, 0),
-                Math.max(size, 1),
-                Sort.by(Sort.Direction.DESC, "createdAt")
-        );
-        Page<User> users = userRepository.searchByEmailOrName(q, pageable);
-        Map<Long, AdminUserStats> statsMap = buildStatsForUsers(users.getContent());
-
-        List<AdminUserListItem> items = users.getContent().stream()
-                .map(user -> new AdminUserListItem(
-                        user.getId(),
-                        user.getEmail(),
-                        user.getName(),
-                        user.getRole(),
-                        user.getStatus(),
-                        user.getCreatedAt(),
-                        statsMap.getOrDefault(user.getId(), EMPTY_STATS)
-                ))
-                .toList();
+    public PageResponse<AdminUserListItem> listUsers(int page, int size, String q, Sort sort) {
+        // 통계 컬럼은 join alias 로 정렬하므로 허용 목록으로 매핑
+        JpaSort jpaSort = null;
+        for (Sort.Order order : sort) {
+            String column = USER_SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid sort: " + order.getProperty());
+            }
+            jpaSort = jpaSort == null
+                    ? JpaSort.unsafe(order.getDirection(), column)
+                    : jpaSort.andUnsafe(order.getDirection(), column);
+        }
+        // 동률 행의 페이지 간 순서 고정
+        jpaSort = jpaSort == null
+                ? JpaSort.unsafe(Sort.Direction.ASC, "u.id")
+                : jpaSort.andUnsafe(Sort.Direction.ASC, "u.id");
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(size, 1), jpaSort);
 
-        Page<AdminUserListItem> mapped = new PageImpl<>(items, pageable, users.getTotalElements());
-        return PageResponse.of(mapped);
+        Page<AdminUserListItem> users = userRepository.searchWithStats(searchPrefix(q), pageable)
+                .map(row -> new AdminUserListItem(
+                        row.id(),
+                        row.email(),
+                        row.name(),
+                        row.role(),
+                        row.status(),
+                        row.createdAt(),
+                        new AdminUserStats(
+                                nullSafeLong(row.attemptCount()),
+                                nullSafeLong(row.correctCount()),
+                                nullSafeLong(row.wrongCount()),
+                                nullSafeLong(row.reattemptCorrectCount()),
+                                row.lastAttemptAt()
+                        )
+                ));
+        return PageResponse.of(users);
     }
 
     @Transactional(readOnly = true)
@@ -90,13 +136,22 @@ public class AdminUserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
 
-        List<UserCaseProgress> progresses = userCaseProgressRepository.findByUserIdWithCase(userId);
-        Map<Long, UserCaseProgress> progressByCaseId = progresses.stream()
-                .collect(Collectors.toMap(p -> p.getImageCase().getId(), Function.identity()));
-
-        AdminUserStats stats = buildStatsFromProgress(progresses);
-        List<AdminUserCaseProgressDto> caseProgress = buildCaseProgress(progressByCaseId);
-        List<AdminUserActivityDto> activities = buildRecentActivities(userId, progressByCaseId);
+        AdminUserStats stats = userStatsRepository.findById(userId)
+                .map(row -> new AdminUserStats(
+                        row.getAttemptCount(),
+                        row.getCorrectCount(),
+                        row.getWrongCount(),
+                        row.getReattemptCorrectCount(),
+                        row.getLastAttemptAt()
+                ))
+                .orElse(EMPTY_STATS);
+        // 첫 페이지만 포함, 나머지는 총계를 보고 /{userId}/cases 에서 페이지 단위로 조회
+        Page<AdminUserCaseProgressDto> caseProgress = findCaseProgress(
+                userId,
+                null,
+                PageRequest.of(0, DETAIL_CASE_PROGRESS_SIZE, Sort.by("title"))
+        );
+        List<AdminUserActivityDto> activities = buildRecentActivities(userId);
 
         return new AdminUserDetailResponse(
                 user.getId(),
@@ -106,11 +161,37 @@ public class AdminUserService {
                 user.getStatus(),
                 user.getCreatedAt(),
                 stats,
-                caseProgress,
+                caseProgress.getContent(),
+                caseProgress.getTotalElements(),
                 activities
         );
     }
 
+    @Transactional(readOnly = true)
+    public PageResponse<AdminUserCaseProgressDto> listUserCases(
+            Long userId,
+            String status,
+            int page,
+            int size,
+            Sort sort
+    ) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found");
+        }
+        UserCaseStatus statusFilter = null;
+        if (status != null && !status.isBlank()) {
+            statusFilter = UserCaseStatus.fromParam(status)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid status"));
+        }
+        for (Sort.Order order : sort) {
+            if (!CASE_SORT_PROPERTIES.contains(order.getProperty())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid sort: " + order.getProperty());
+            }
+        }
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_CASE_PAGE_SIZE), sort);
+        return PageResponse.of(findCaseProgress(userId, statusFilter, pageable));
+    }
+
     @Transactional
     public AdminUserDetailResponse updateUserStatus(Long userId, AdminUserUpdateRequest request) {
         User user = userRepository.findById(userId)
@@ -124,90 +205,42 @@ public class AdminUserService {
         if (user.getStatus() != nextStatus) {
             user.updateStatus(nextStatus);
             userRepository.save(user);
+            userStatusCache.invalidate(userId);
         }
 
         return getUserDetail(userId);
     }
 
-    private Map<Long, AdminUserStats> buildStatsForUsers(List<User> users) {
-        if (users.isEmpty()) {
-            return Map.of();
-        }
-        List<Long> userIds = users.stream().map(User::getId).toList();
-        Map<Long, UserProgressAggregate> aggregates = userCaseProgressRepository.aggregateByUserIds(userIds)
-                .stream()
-                .collect(Collectors.toMap(UserProgressAggregate::getUserId, Function.identity(), (a, b) -> a, HashMap::new));
-
-        Map<Long, AdminUserStats> statsMap = new HashMap<>();
-        for (User user : users) {
-            UserProgressAggregate aggregate = aggregates.get(user.getId());
-            statsMap.put(user.getId(), aggregate == null ? EMPTY_STATS : buildStatsFromAggregate(aggregate));
+    // 입력을 소문자 접두어 패턴으로 변환 (LIKE 메타문자는 '!' 로 이스케이프)
+    private static String searchPrefix(String q) {
+        if (q == null || q.isBlank()) {
+            return null;
         }
-        return statsMap;
-    }
-
-    private AdminUserStats buildStatsFromAggregate(UserProgressAggregate aggregate) {
-        long correctAttempts = nullSafeLong(aggregate.getCorrectAttempts());
-        long wrongAttempts = nullSafeLong(aggregate.getWrongAttempts());
-        long attemptedCount = correctAttempts + wrongAttempts;
-        long correctCount = nullSafeLong(aggregate.getCorrectCases());
-        long wrongCount = nullSafeLong(aggregate.getWrongCases());
-        long reattemptCorrectCount = nullSafeLong(aggregate.getReattemptCorrectCases());
-        return new AdminUserStats(
-                attemptedCount,
-                correctCount,
-                wrongCount,
-                reattemptCorrectCount,
-                aggregate.getLastAttemptAt()
-        );
+        String key = User.searchKey(q.trim());
+        return key.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
     }
 
-    private AdminUserStats buildStatsFromProgress(List<UserCaseProgress> progresses) {
-        long attemptedCount = progresses.stream()
-                .mapToLong(p -> (long) p.getCorrectCount() + p.getWrongCount())
-                .sum();
-        long correctCount = progresses.stream().filter(p -> p.getStatus() == UserCaseStatus.CORRECT).count();
-        long wrongCount = progresses.stream().filter(p -> p.getStatus() == UserCaseStatus.WRONG).count();
-        long reattemptCorrectCount = progresses.stream()
-                .filter(p -> p.getStatus() == UserCaseStatus.REATTEMPT_CORRECT)
-                .count();
-        Instant lastActiveAt = progresses.stream()
-                .map(UserCaseProgress::getLastAttemptAt)
-                .filter(Objects::nonNull)
-                .max(Comparator.naturalOrder())
-                .orElse(null);
-
-        return new AdminUserStats(attemptedCount, correctCount, wrongCount, reattemptCorrectCount, lastActiveAt);
+    private Page<AdminUserCaseProgressDto> findCaseProgress(Long userId, UserCaseStatus status, Pageable pageable) {
+        return imageCaseRepository.findProgressForUser(userId, status, pageable)
+                .map(row -> new AdminUserCaseProgressDto(
+                        row.caseId(),
+                        row.title(),
+                        UserCaseStatus.normalize(row.status()),
+                        row.attemptCount() == null ? 0 : row.attemptCount(),
+                        row.lastAttemptAt()
+                ));
     }
 
-    private List<AdminUserCaseProgressDto> buildCaseProgress(Map<Long, UserCaseProgress> progressByCaseId) {
-        return imageCaseRepository.findAll().stream()
-                .map(imageCase -> {
-                    UserCaseProgress progress = progressByCaseId.get(imageCase.getId());
-                    if (progress == null) {
-                        return new AdminUserCaseProgressDto(
-                                imageCase.getId(),
-                                imageCase.getTitle(),
-                                UserCaseStatus.UNSEEN,
-                                0,
-                                null
-                        );
-                    }
-                    int attemptCount = progress.getCorrectCount() + progress.getWrongCount();
-                    return new AdminUserCaseProgressDto(
-                            imageCase.getId(),
-                            imageCase.getTitle(),
-                            progress.getStatus(),
-                            attemptCount,
-                            progress.getLastAttemptAt()
-                    );
-                })
-                .sorted(Comparator.comparing(AdminUserCaseProgressDto::caseTitle))
-                .toList();
-    }
-
-    private List<AdminUserActivityDto> buildRecentActivities(Long userId, Map<Long, UserCaseProgress> progressByCaseId) {
+    private List<AdminUserActivityDto> buildRecentActivities(Long userId) {
         List<Attempt> attempts = attemptRepository.findRecentAttempts(userId, PageRequest.of(0, 20));
+        if (attempts.isEmpty()) {
+            return List.of();
+        }
+        List<Long> caseIds = attempts.stream().map(attempt -> attempt.getImageCase().getId()).distinct().toList();
+        Map<Long, UserCaseProgress> progressByCaseId = userCaseProgressRepository
+                .findByUserIdAndImageCaseIdIn(userId, caseIds)
+                .stream()
+                .collect(Collectors.toMap(p -> p.getImageCase().getId(), Function.identity()));
         return attempts.stream()
                 .map(attempt -> {
                     UserCaseProgress progress = progressByCaseId.get(attempt.getImageCase().getId());
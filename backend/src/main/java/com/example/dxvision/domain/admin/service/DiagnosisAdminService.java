@@ -2,14 +2,17 @@ package com.example.dxvision.domain.admin.service;
 
 import com.example.dxvision.domain.admin.dto.DiagnosisAdminRequest;
 import com.example.dxvision.domain.admin.dto.DiagnosisAdminResponse;
+import com.example.dxvision.domain.attempt.service.CaseAnswerKeyCache;
 import com.example.dxvision.domain.casefile.Diagnosis;
 import com.example.dxvision.domain.casefile.OptionType;
+import com.example.dxvision.domain.casefile.event.OptionTaxonomyChangedEvent;
 import com.example.dxvision.domain.casefile.service.OptionFolderService;
 import com.example.dxvision.domain.repository.CaseDiagnosisRepository;
 import com.example.dxvision.domain.repository.DiagnosisFolderRepository;
 import com.example.dxvision.domain.repository.DiagnosisRepository;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,17 +25,23 @@ public class DiagnosisAdminService {
     private final CaseDiagnosisRepository caseDiagnosisRepository;
     private final OptionFolderService optionFolderService;
     private final DiagnosisFolderRepository diagnosisFolderRepository;
+    private final CaseAnswerKeyCache caseAnswerKeyCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public DiagnosisAdminService(
             DiagnosisRepository diagnosisRepository,
             CaseDiagnosisRepository caseDiagnosisRepository,
             OptionFolderService optionFolderService,
-            DiagnosisFolderRepository diagnosisFolderRepository
+            DiagnosisFolderRepository diagnosisFolderRepository,
+            CaseAnswerKeyCache caseAnswerKeyCache,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.diagnosisRepository = diagnosisRepository;
         this.caseDiagnosisRepository = caseDiagnosisRepository;
         this.optionFolderService = optionFolderService;
         this.diagnosisFolderRepository = diagnosisFolderRepository;
+        this.caseAnswerKeyCache = caseAnswerKeyCache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -71,6 +80,8 @@ public class DiagnosisAdminService {
         }
 
         diagnosis.update(name, request.description());
+        // 채점 키에 진단명이 포함되어 있으므로 캐시 무효화
+        caseAnswerKeyCache.evictAll();
         optionFolderService.syncDiagnosisFolders(diagnosis, request.folderIds());
         return toResponse(diagnosis);
     }
@@ -90,6 +101,7 @@ public class DiagnosisAdminService {
         }
 
         diagnosisRepository.deleteById(id);
+        eventPublisher.publishEvent(new OptionTaxonomyChangedEvent(OptionType.DIAGNOSIS));
     }
 
     private String validateAndNormalizeName(DiagnosisAdminRequest request) {
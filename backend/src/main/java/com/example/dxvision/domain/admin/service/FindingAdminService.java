@@ -2,14 +2,17 @@ package com.example.dxvision.domain.admin.service;
 
 import com.example.dxvision.domain.admin.dto.FindingAdminRequest;
 import com.example.dxvision.domain.admin.dto.FindingAdminResponse;
+import com.example.dxvision.domain.attempt.service.CaseAnswerKeyCache;
 import com.example.dxvision.domain.casefile.Finding;
 import com.example.dxvision.domain.casefile.OptionType;
+import com.example.dxvision.domain.casefile.event.OptionTaxonomyChangedEvent;
 import com.example.dxvision.domain.casefile.service.OptionFolderService;
 import com.example.dxvision.domain.repository.CaseFindingRepository;
 import com.example.dxvision.domain.repository.FindingFolderRepository;
 import com.example.dxvision.domain.repository.FindingRepository;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,17 +25,23 @@ public class FindingAdminService {
     private final CaseFindingRepository caseFindingRepository;
     private final OptionFolderService optionFolderService;
     private final FindingFolderRepository findingFolderRepository;
+    private final CaseAnswerKeyCache caseAnswerKeyCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public FindingAdminService(
             FindingRepository findingRepository,
             CaseFindingRepository caseFindingRepository,
             OptionFolderService optionFolderService,
-            FindingFolderRepository findingFolderRepository
+            FindingFolderRepository findingFolderRepository,
+            CaseAnswerKeyCache caseAnswerKeyCache,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.findingRepository = findingRepository;
         this.caseFindingRepository = caseFindingRepository;
         this.optionFolderService = optionFolderService;
         this.findingFolderRepository = findingFolderRepository;
+        this.caseAnswerKeyCache = caseAnswerKeyCache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -71,6 +80,8 @@ public class FindingAdminService {
         }
 
         finding.update(label, request.description());
+        // 채점 키에 라벨이 포함되어 있으므로 캐시 무효화
+        caseAnswerKeyCache.evictAll();
         optionFolderService.syncFindingFolders(finding, request.folderIds());
         return toResponse(finding);
     }
@@ -90,6 +101,7 @@ public class FindingAdminService {
         }
 
         findingRepository.deleteById(id);
+        eventPublisher.publishEvent(new OptionTaxonomyChangedEvent(OptionType.FINDING));
     }
 
     private String validateAndNormalizeLabel(FindingAdminRequest request) {
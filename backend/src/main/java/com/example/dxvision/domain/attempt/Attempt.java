@@ -2,6 +2,7 @@ package com.example.dxvision.domain.attempt;
 
 import com.example.dxvision.domain.auth.User;
 import com.example.dxvision.domain.casefile.ImageCase;
+import com.example.dxvision.global.jpa.PooledIdGenerators;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -14,6 +15,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -26,7 +28,15 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class Attempt {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "attempts_id")
+    @TableGenerator(
+            name = "attempts_id",
+            table = PooledIdGenerators.TABLE,
+            pkColumnName = PooledIdGenerators.PK_COLUMN,
+            valueColumnName = PooledIdGenerators.VALUE_COLUMN,
+            pkColumnValue = PooledIdGenerators.ATTEMPTS,
+            allocationSize = PooledIdGenerators.ALLOCATION_SIZE
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,6 +1,7 @@
 package com.example.dxvision.domain.attempt;
 
 import com.example.dxvision.domain.casefile.Finding;
+import com.example.dxvision.global.jpa.PooledIdGenerators;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -9,6 +10,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -18,7 +20,15 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class AttemptFindingAnswer {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "attempt_finding_answers_id")
+    @TableGenerator(
+            name = "attempt_finding_answers_id",
+            table = PooledIdGenerators.TABLE,
+            pkColumnName = PooledIdGenerators.PK_COLUMN,
+            valueColumnName = PooledIdGenerators.VALUE_COLUMN,
+            pkColumnValue = PooledIdGenerators.ATTEMPT_FINDING_ANSWERS,
+            allocationSize = PooledIdGenerators.ALLOCATION_SIZE
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
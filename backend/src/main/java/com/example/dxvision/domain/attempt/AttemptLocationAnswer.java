@@ -1,5 +1,6 @@
 package com.example.dxvision.domain.attempt;
 
+import com.example.dxvision.global.jpa.PooledIdGenerators;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -11,6 +12,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -20,7 +22,15 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class AttemptLocationAnswer {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "attempt_location_answers_id")
+    @TableGenerator(
+            name = "attempt_location_answers_id",
+            table = PooledIdGenerators.TABLE,
+            pkColumnName = PooledIdGenerators.PK_COLUMN,
+            valueColumnName = PooledIdGenerators.VALUE_COLUMN,
+            pkColumnValue = PooledIdGenerators.ATTEMPT_LOCATION_ANSWERS,
+            allocationSize = PooledIdGenerators.ALLOCATION_SIZE
+    )
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -1,5 +1,7 @@
 package com.example.dxvision.domain.attempt.controller;
 
+import com.example.dxvision.domain.attempt.dto.AttemptBatchRequest;
+import com.example.dxvision.domain.attempt.dto.AttemptBatchResponse;
 import com.example.dxvision.domain.attempt.dto.AttemptResultResponse;
 import com.example.dxvision.domain.attempt.dto.AttemptSubmitRequest;
 import com.example.dxvision.domain.attempt.service.AttemptService;
@@ -22,4 +24,9 @@ public class AttemptController {
     public AttemptResultResponse submit(@Valid @RequestBody AttemptSubmitRequest request) {
         return attemptService.submitAttempt(request);
     }
+
+    @PostMapping("/batch")
+    public AttemptBatchResponse submitBatch(@Valid @RequestBody AttemptBatchRequest request) {
+        return attemptService.submitBatch(request);
+    }
 }
@@ -0,0 +1,21 @@
+package com.example.dxvision.domain.attempt.dto;
+
+/**
+ * Per-item outcome of a batch submission. Exactly one of {@code result} / {@code error} is set;
+ * {@code status} mirrors the HTTP status the single-item endpoint would have returned.
+ */
+public record AttemptBatchItemResult(
+        int index,
+        Long caseId,
+        int status,
+        String error,
+        AttemptResultResponse result
+) {
+    public static AttemptBatchItemResult success(int index, AttemptResultResponse result) {
+        return new AttemptBatchItemResult(index, result.caseId(), 200, null, result);
+    }
+
+    public static AttemptBatchItemResult failure(int index, Long caseId, int status, String error) {
+        return new AttemptBatchItemResult(index, caseId, status, error, null);
+    }
+}
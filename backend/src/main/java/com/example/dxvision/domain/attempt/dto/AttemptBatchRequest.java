@@ -0,0 +1,11 @@
+package com.example.dxvision.domain.attempt.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record AttemptBatchRequest(
+        @NotNull @Size(min = 1, max = 100) List<@NotNull @Valid AttemptSubmitRequest> attempts
+) {
+}
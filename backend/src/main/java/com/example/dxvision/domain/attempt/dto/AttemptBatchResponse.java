@@ -0,0 +1,11 @@
+package com.example.dxvision.domain.attempt.dto;
+
+import java.util.List;
+
+public record AttemptBatchResponse(
+        int submitted,
+        int succeeded,
+        int failed,
+        List<AttemptBatchItemResult> results
+) {
+}
@@ -4,29 +4,34 @@ import com.example.dxvision.domain.attempt.Attempt;
 import com.example.dxvision.domain.attempt.AttemptDiagnosisAnswer;
 import com.example.dxvision.domain.attempt.AttemptFindingAnswer;
 import com.example.dxvision.domain.attempt.AttemptLocationAnswer;
-import com.example.dxvision.domain.attempt.LocationGrade;
+import com.example.dxvision.domain.attempt.dto.AttemptBatchItemResult;
+import com.example.dxvision.domain.attempt.dto.AttemptBatchRequest;
+import com.example.dxvision.domain.attempt.dto.AttemptBatchResponse;
 import com.example.dxvision.domain.attempt.dto.AttemptResultResponse;
 import com.example.dxvision.domain.attempt.dto.AttemptSubmitRequest;
+import com.example.dxvision.domain.attempt.service.CaseAnswerKey.DiagnosisScore;
+import com.example.dxvision.domain.attempt.service.CaseAnswerKey.FindingScore;
 import com.example.dxvision.domain.auth.User;
-import com.example.dxvision.domain.casefile.CaseDiagnosis;
-import com.example.dxvision.domain.casefile.CaseFinding;
 import com.example.dxvision.domain.casefile.ImageCase;
-import com.example.dxvision.domain.casefile.LesionShapeType;
 import com.example.dxvision.domain.progress.ProgressRules;
 import com.example.dxvision.domain.progress.UserCaseProgress;
+import com.example.dxvision.domain.progress.StatusTransition;
 import com.example.dxvision.domain.progress.UserCaseStatus;
+import com.example.dxvision.domain.progress.service.UserStatsService;
 import com.example.dxvision.domain.repository.AttemptRepository;
+import com.example.dxvision.domain.repository.DiagnosisRepository;
+import com.example.dxvision.domain.repository.FindingRepository;
 import com.example.dxvision.domain.repository.ImageCaseRepository;
 import com.example.dxvision.domain.repository.UserCaseProgressRepository;
 import com.example.dxvision.global.security.CurrentUserProvider;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,29 +39,40 @@ import org.springframework.web.server.ResponseStatusException;
 
 @Service
 public class AttemptService {
+    private static final int PARALLEL_SCORING_THRESHOLD = 32;
+
     private final CurrentUserProvider currentUserProvider;
     private final ImageCaseRepository imageCaseRepository;
     private final AttemptRepository attemptRepository;
     private final UserCaseProgressRepository userCaseProgressRepository;
-    private final ObjectMapper objectMapper;
+    private final FindingRepository findingRepository;
+    private final DiagnosisRepository diagnosisRepository;
+    private final CaseAnswerKeyCache caseAnswerKeyCache;
+    private final UserStatsService userStatsService;
 
     public AttemptService(
             CurrentUserProvider currentUserProvider,
             ImageCaseRepository imageCaseRepository,
             AttemptRepository attemptRepository,
             UserCaseProgressRepository userCaseProgressRepository,
-            ObjectMapper objectMapper
+            FindingRepository findingRepository,
+            DiagnosisRepository diagnosisRepository,
+            CaseAnswerKeyCache caseAnswerKeyCache,
+            UserStatsService userStatsService
     ) {
         this.currentUserProvider = currentUserProvider;
         this.imageCaseRepository = imageCaseRepository;
         this.attemptRepository = attemptRepository;
         this.userCaseProgressRepository = userCaseProgressRepository;
-        this.objectMapper = objectMapper;
+        this.findingRepository = findingRepository;
+        this.diagnosisRepository = diagnosisRepository;
+        this.caseAnswerKeyCache = caseAnswerKeyCache;
+        this.userStatsService = userStatsService;
     }
 
     @Transactional
     public AttemptResultResponse submitAttempt(AttemptSubmitRequest request) {
-        User user = currentUserProvider.getCurrentUser();
+        User user = currentUserProvider.getCurrentUserReference();
         ImageCase imageCase = imageCaseRepository.findById(request.caseId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Case not found"));
 
@@ -64,77 +80,202 @@ public class AttemptService {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "Case version mismatch");
         }
 
-        Set<Long> normalizedFindingIds = new HashSet<>(request.findingIds());
-        Set<Long> normalizedDiagnosisIds = new HashSet<>(request.diagnosisIds());
+        ScoredAttempt scored = score(caseAnswerKeyCache.get(imageCase), request);
+        Attempt saved = attemptRepository.save(buildAttempt(user, imageCase, scored));
+        StatusTransition transition = updateProgress(user, imageCase, saved);
+        userStatsService.recordSubmission(user, List.of(saved), List.of(transition));
+
+        return toResponse(saved, imageCase, scored);
+    }
+
+    /**
+     * Exam-mode batch: cases and answer keys are loaded with one query each, items are scored
+     * (in parallel for large batches; scoring is pure), attempts are written with saveAll and
+     * progress transitions are applied per case in submission order.
+     * Items that fail (missing case, version mismatch, invalid lesion) are reported individually
+     * and do not roll back the others.
+     */
+    @Transactional
+    public AttemptBatchResponse submitBatch(AttemptBatchRequest request) {
+        User user = currentUserProvider.getCurrentUserReference();
+        List<AttemptSubmitRequest> items = request.attempts();
+
+        Set<Long> caseIds = items.stream().map(AttemptSubmitRequest::caseId).collect(Collectors.toSet());
+        Map<Long, ImageCase> casesById = imageCaseRepository.findAllById(caseIds).stream()
+                .collect(Collectors.toMap(ImageCase::getId, ic -> ic));
+        Map<Long, CaseAnswerKey> keysByCaseId = caseAnswerKeyCache.getAll(casesById.values());
+
+        IntStream indexes = IntStream.range(0, items.size());
+        if (items.size() >= PARALLEL_SCORING_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        BatchOutcome[] outcomes = new BatchOutcome[items.size()];
+        indexes.forEach(i -> outcomes[i] = scoreItem(items.get(i), casesById, keysByCaseId));
+
+        List<Attempt> attempts = new ArrayList<>();
+        for (BatchOutcome outcome : outcomes) {
+            if (outcome.scored() != null) {
+                attempts.add(buildAttempt(user, casesById.get(outcome.caseId()), outcome.scored()));
+            }
+        }
+        List<Attempt> saved = attemptRepository.saveAll(attempts);
+        List<StatusTransition> transitions = applyProgressInOrder(user, saved);
+        userStatsService.recordSubmission(user, saved, transitions);
+
+        List<AttemptBatchItemResult> results = new ArrayList<>(items.size());
+        int savedIndex = 0;
+        for (int i = 0; i < outcomes.length; i++) {
+            BatchOutcome outcome = outcomes[i];
+            if (outcome.scored() == null) {
+                results.add(AttemptBatchItemResult.failure(i, outcome.caseId(), outcome.status(), outcome.error()));
+                continue;
+            }
+            Attempt attempt = saved.get(savedIndex++);
+            results.add(AttemptBatchItemResult.success(
+                    i,
+                    toResponse(attempt, casesById.get(outcome.caseId()), outcome.scored())
+            ));
+        }
+        int succeeded = saved.size();
+        return new AttemptBatchResponse(items.size(), succeeded, items.size() - succeeded, results);
+    }
 
-        LocationEvaluation locationEvaluation = evaluateLocation(imageCase, request.clickX(), request.clickY());
-        ScoredFindings findingsScore = evaluateFindingsPercent(imageCase, normalizedFindingIds);
-        ScoredDiagnoses diagnosisScore = evaluateDiagnosesPercent(imageCase, normalizedDiagnosisIds);
-        double finalScore = 0.3 * findingsScore.score + 0.3 * locationEvaluation.score + 0.4 * diagnosisScore.score;
+    private BatchOutcome scoreItem(
+            AttemptSubmitRequest item,
+            Map<Long, ImageCase> casesById,
+            Map<Long, CaseAnswerKey> keysByCaseId
+    ) {
+        ImageCase imageCase = casesById.get(item.caseId());
+        if (imageCase == null) {
+            return BatchOutcome.failed(item.caseId(), HttpStatus.NOT_FOUND, "Case not found");
+        }
+        if (!imageCase.getVersion().equals(item.caseVersion())) {
+            return BatchOutcome.failed(item.caseId(), HttpStatus.CONFLICT, "Case version mismatch");
+        }
+        try {
+            return new BatchOutcome(item.caseId(), score(keysByCaseId.get(item.caseId()), item), 200, null);
+        } catch (ResponseStatusException ex) {
+            return new BatchOutcome(item.caseId(), null, ex.getStatusCode().value(), ex.getReason());
+        }
+    }
 
+    private ScoredAttempt score(CaseAnswerKey answerKey, AttemptSubmitRequest request) {
+        long[] selectedFindingIds = CaseAnswerKey.distinctSorted(request.findingIds());
+        long[] selectedDiagnosisIds = CaseAnswerKey.distinctSorted(request.diagnosisIds());
+
+        LocationEvaluation locationEvaluation = answerKey.evaluateLocation(request.clickX(), request.clickY());
+        FindingScore findingsScore = answerKey.scoreFindings(selectedFindingIds);
+        DiagnosisScore diagnosisScore = answerKey.scoreDiagnoses(selectedDiagnosisIds);
+        double finalScore = 0.3 * findingsScore.score() + 0.3 * locationEvaluation.score() + 0.4 * diagnosisScore.score();
+
+        return new ScoredAttempt(
+                request,
+                answerKey,
+                selectedFindingIds,
+                selectedDiagnosisIds,
+                locationEvaluation,
+                findingsScore,
+                diagnosisScore,
+                finalScore,
+                buildExplanation(findingsScore, diagnosisScore, locationEvaluation)
+        );
+    }
+
+    private Attempt buildAttempt(User user, ImageCase imageCase, ScoredAttempt scored) {
         Attempt attempt = new Attempt(user, imageCase, Instant.now());
-        attempt.recordScores(findingsScore.score, locationEvaluation.score, diagnosisScore.score, finalScore, locationEvaluation.explanation);
+        attempt.recordScores(
+                scored.findingsScore().score(),
+                scored.location().score(),
+                scored.diagnosisScore().score(),
+                scored.finalScore(),
+                scored.location().explanation()
+        );
 
         AttemptLocationAnswer locationAnswer = new AttemptLocationAnswer(
                 attempt,
-                request.clickX(),
-                request.clickY(),
-                locationEvaluation.grade
+                scored.request().clickX(),
+                scored.request().clickY(),
+                scored.location().grade()
         );
         attempt.attachLocationAnswer(locationAnswer);
 
-        for (Long findingId : normalizedFindingIds) {
-            imageCase.getFindings().stream()
-                    .filter(cf -> cf.getFinding().getId().equals(findingId))
-                    .findFirst()
-                    .ifPresent(cf -> attempt.addFindingAnswer(new AttemptFindingAnswer(attempt, cf.getFinding())));
+        // 케이스에 속한 선택지만 저장 (프록시 참조라 추가 select 없음)
+        for (long findingId : scored.selectedFindingIds()) {
+            if (scored.answerKey().hasFinding(findingId)) {
+                attempt.addFindingAnswer(new AttemptFindingAnswer(attempt, findingRepository.getReferenceById(findingId)));
+            }
         }
 
-        for (Long diagnosisId : normalizedDiagnosisIds) {
-            imageCase.getDiagnoses().stream()
-                    .filter(cd -> cd.getDiagnosis().getId().equals(diagnosisId))
-                    .findFirst()
-                    .ifPresent(cd -> attempt.addDiagnosisAnswer(new AttemptDiagnosisAnswer(attempt, cd.getDiagnosis())));
+        for (long diagnosisId : scored.selectedDiagnosisIds()) {
+            if (scored.answerKey().hasDiagnosis(diagnosisId)) {
+                attempt.addDiagnosisAnswer(
+                        new AttemptDiagnosisAnswer(attempt, diagnosisRepository.getReferenceById(diagnosisId)));
+            }
         }
+        return attempt;
+    }
 
-        String explanation = buildExplanation(
-                imageCase,
-                normalizedFindingIds,
-                normalizedDiagnosisIds,
-                findingsScore,
-                diagnosisScore,
-                locationEvaluation
-        );
-
-        Attempt saved = attemptRepository.save(attempt);
-        updateProgress(user, imageCase, saved);
-
+    private AttemptResultResponse toResponse(Attempt saved, ImageCase imageCase, ScoredAttempt scored) {
         return new AttemptResultResponse(
                 saved.getId(),
                 imageCase.getId(),
                 imageCase.getVersion(),
-                findingsScore.score,
-                locationEvaluation.score,
-                diagnosisScore.score,
-                finalScore,
-                explanation,
+                scored.findingsScore().score(),
+                scored.location().score(),
+                scored.diagnosisScore().score(),
+                scored.finalScore(),
+                scored.explanation(),
                 imageCase.getExpertFindingExplanation(),
                 imageCase.getExpertDiagnosisExplanation(),
                 imageCase.getExpertLocationExplanation(),
-                locationEvaluation.grade,
-                findingsScore.correctLabels,
-                diagnosisScore.correctNames
+                scored.location().grade(),
+                scored.findingsScore().correctLabels(),
+                scored.diagnosisScore().correctNames()
         );
     }
 
-    private void updateProgress(User user, ImageCase imageCase, Attempt attempt) {
+    private StatusTransition updateProgress(User user, ImageCase imageCase, Attempt attempt) {
         boolean isCorrect = attempt.getFinalScore() >= ProgressRules.CORRECT_THRESHOLD;
         UserCaseProgress progress = userCaseProgressRepository.findByUserIdAndImageCaseId(user.getId(), imageCase.getId())
                 .orElseGet(() -> new UserCaseProgress(user, imageCase, isCorrect ? UserCaseStatus.CORRECT : UserCaseStatus.WRONG));
 
+        UserCaseStatus previousStatus = progress.getId() == null ? null : progress.getStatus();
         UserCaseStatus nextStatus = determineNextStatus(progress.getStatus(), isCorrect);
         progress.recordAttempt(nextStatus, attempt, isCorrect);
         userCaseProgressRepository.save(progress);
+        return new StatusTransition(previousStatus, nextStatus);
+    }
+
+    /**
+     * Same transitions as {@link #updateProgress}, with existing rows fetched in one query;
+     * repeated attempts on a case chain through the in-memory row in submission order.
+     */
+    private List<StatusTransition> applyProgressInOrder(User user, List<Attempt> attempts) {
+        if (attempts.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> caseIds = attempts.stream().map(a -> a.getImageCase().getId()).collect(Collectors.toSet());
+        Map<Long, UserCaseProgress> progressByCaseId = new HashMap<>();
+        for (UserCaseProgress progress : userCaseProgressRepository.findByUserIdAndImageCaseIdIn(user.getId(), caseIds)) {
+            progressByCaseId.put(progress.getImageCase().getId(), progress);
+        }
+
+        List<StatusTransition> transitions = new ArrayList<>(attempts.size());
+        for (Attempt attempt : attempts) {
+            boolean isCorrect = attempt.getFinalScore() >= ProgressRules.CORRECT_THRESHOLD;
+            ImageCase imageCase = attempt.getImageCase();
+            UserCaseProgress existing = progressByCaseId.get(imageCase.getId());
+            UserCaseProgress progress = existing != null
+                    ? existing
+                    : new UserCaseProgress(user, imageCase, isCorrect ? UserCaseStatus.CORRECT : UserCaseStatus.WRONG);
+            progressByCaseId.put(imageCase.getId(), progress);
+
+            UserCaseStatus nextStatus = determineNextStatus(progress.getStatus(), isCorrect);
+            transitions.add(new StatusTransition(existing == null ? null : progress.getStatus(), nextStatus));
+            progress.recordAttempt(nextStatus, attempt, isCorrect);
+        }
+        userCaseProgressRepository.saveAll(progressByCaseId.values());
+        return transitions;
     }
 
     private UserCaseStatus determineNextStatus(UserCaseStatus previous, boolean isCorrect) {
@@ -149,167 +290,42 @@ public class AttemptService {
         };
     }
 
-    private LocationEvaluation evaluateLocation(ImageCase imageCase, double clickX, double clickY) {
-        try {
-            JsonNode node = objectMapper.readTree(imageCase.getLesionDataJson());
-            String type = node.path("type").asText(LesionShapeType.CIRCLE.name());
-            if (type.equalsIgnoreCase(LesionShapeType.RECT.name())) {
-                double x = node.path("x").asDouble();
-                double y = node.path("y").asDouble();
-                double w = node.path("w").asDouble();
-                double h = node.path("h").asDouble();
-                double dx = Math.max(Math.max(x - clickX, 0), clickX - (x + w));
-                double dy = Math.max(Math.max(y - clickY, 0), clickY - (y + h));
-                boolean inside = dx == 0 && dy == 0;
-                double distance = Math.sqrt(dx * dx + dy * dy);
-                double base = Math.max(w, h) / 2.0;
-                LocationGrade grade;
-                double score;
-                if (inside) {
-                    grade = LocationGrade.INSIDE;
-                    score = 100.0;
-                } else if (distance <= base * 0.5) {
-                    grade = LocationGrade.NEAR;
-                    score = 70.0;
-                } else if (distance <= base * 1.5) {
-                    grade = LocationGrade.FAR;
-                    score = 30.0;
-                } else {
-                    grade = LocationGrade.WRONG;
-                    score = 0.0;
-                }
-                String explanation = "Location grade: %s (rect distance=%.3f, size=%.3fx%.3f)".formatted(
-                        grade, distance, w, h);
-                return new LocationEvaluation(grade, score, explanation);
-            } else {
-                double cx = node.path("cx").asDouble();
-                double cy = node.path("cy").asDouble();
-                double r = node.path("r").asDouble();
-                double dx = clickX - cx;
-                double dy = clickY - cy;
-                double distance = Math.sqrt(dx * dx + dy * dy);
-
-                LocationGrade grade;
-                double score;
-                if (distance <= r) {
-                    grade = LocationGrade.INSIDE;
-                    score = 100.0;
-                } else if (distance <= r * 1.5) {
-                    grade = LocationGrade.NEAR;
-                    score = 70.0;
-                } else if (distance <= r * 2.5) {
-                    grade = LocationGrade.FAR;
-                    score = 30.0;
-                } else {
-                    grade = LocationGrade.WRONG;
-                    score = 0.0;
-                }
-                String explanation = "Location grade: %s (distance=%.3f, radius=%.3f)".formatted(grade, distance, r);
-                return new LocationEvaluation(grade, score, explanation);
-            }
-        } catch (Exception ex) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid lesion data");
-        }
-    }
-
-    private ScoredFindings evaluateFindingsPercent(ImageCase imageCase, Set<Long> selected) {
-        Map<Long, String> labelById = new HashMap<>();
-        Set<Long> required = new HashSet<>();
-        Set<Long> caseFindingIds = new HashSet<>();
-
-        for (CaseFinding cf : imageCase.getFindings()) {
-            Long id = cf.getFinding().getId();
-            labelById.put(id, cf.getFinding().getLabel());
-            caseFindingIds.add(id);
-            if (cf.isRequiredFinding()) {
-                required.add(id);
-            }
-        }
-
-        long correctCount = selected.stream().filter(required::contains).count();
-        long wrongCount = selected.stream().filter(id -> !required.contains(id)).count();
-        long invalidCount = selected.stream().filter(id -> !caseFindingIds.contains(id)).count();
-        double correctRate = required.isEmpty() ? 0.0 : (double) correctCount / required.size();
-        double wrongRate = selected.isEmpty() ? 0.0 : (double) wrongCount / selected.size();
-        double score = Math.max(0, correctRate - 0.5 * wrongRate) * 100.0;
-
-        List<String> correctLabels = required.stream().map(labelById::get).toList();
-        return new ScoredFindings(score, correctLabels, invalidCount);
-    }
-
-    private ScoredDiagnoses evaluateDiagnosesPercent(ImageCase imageCase, Set<Long> selectedIds) {
-        Map<Long, Double> weightByDiagnosis = new HashMap<>();
-        Map<Long, String> nameById = new HashMap<>();
-        for (CaseDiagnosis cd : imageCase.getDiagnoses()) {
-            weightByDiagnosis.put(cd.getDiagnosis().getId(), cd.getWeight());
-            nameById.put(cd.getDiagnosis().getId(), cd.getDiagnosis().getName());
-        }
-
-        double totalWeight = weightByDiagnosis.values().stream().mapToDouble(Double::doubleValue).sum();
-        if (totalWeight == 0) {
-            return new ScoredDiagnoses(0.0, List.of(), 0);
-        }
-
-        double selectedWeight = selectedIds.stream()
-                .filter(weightByDiagnosis::containsKey)
-                .mapToDouble(weightByDiagnosis::get)
-                .sum();
-
-        long invalidCount = selectedIds.stream().filter(id -> !weightByDiagnosis.containsKey(id)).count();
-
-        double ratio = selectedWeight / totalWeight;
-        double score = Math.min(100.0, Math.max(0.0, ratio * 100.0));
-        List<String> correctNames = weightByDiagnosis.keySet().stream().map(nameById::get).toList();
-        return new ScoredDiagnoses(score, correctNames, invalidCount);
-    }
-
     private String buildExplanation(
-            ImageCase imageCase,
-            Set<Long> selectedFindingIds,
-            Set<Long> selectedDiagnosisIds,
-            ScoredFindings findings,
-            ScoredDiagnoses diagnoses,
+            FindingScore findings,
+            DiagnosisScore diagnoses,
             LocationEvaluation locationEvaluation
     ) {
-        Set<Long> requiredIds = imageCase.getFindings().stream()
-                .filter(CaseFinding::isRequiredFinding)
-                .map(cf -> cf.getFinding().getId())
-                .collect(HashSet::new, HashSet::add, HashSet::addAll);
-
-        Set<Long> selectedFindingSet = new HashSet<>(selectedFindingIds);
-        Set<Long> selectedDiagnosisSet = new HashSet<>(selectedDiagnosisIds);
-
-        int matchedFindings = (int) selectedFindingSet.stream().filter(requiredIds::contains).count();
-        int missingFindings = (int) requiredIds.stream().filter(id -> !selectedFindingSet.contains(id)).count();
-        int extraFindings = (int) selectedFindingSet.stream().filter(id -> !requiredIds.contains(id)).count();
-
-        Set<Long> correctDiagIds = imageCase.getDiagnoses().stream()
-                .map(cd -> cd.getDiagnosis().getId())
-                .collect(HashSet::new, HashSet::add, HashSet::addAll);
-        int matchedDiag = (int) selectedDiagnosisSet.stream().filter(correctDiagIds::contains).count();
-        long invalidDiag = diagnoses.invalidCount;
-
         return """
                 Findings: matched %d, missing %d, extra %d, invalid %d.
                 Diagnoses: matched %d, invalid %d.
                 %s
                 """.formatted(
-                matchedFindings,
-                missingFindings,
-                extraFindings,
-                findings.invalidCount,
-                matchedDiag,
-                invalidDiag,
-                locationEvaluation.explanation
+                findings.matched(),
+                findings.missing(),
+                findings.extra(),
+                findings.invalid(),
+                diagnoses.matched(),
+                diagnoses.invalid(),
+                locationEvaluation.explanation()
         );
     }
 
-    private record LocationEvaluation(LocationGrade grade, double score, String explanation) {
-    }
-
-    private record ScoredFindings(double score, List<String> correctLabels, long invalidCount) {
+    private record ScoredAttempt(
+            AttemptSubmitRequest request,
+            CaseAnswerKey answerKey,
+            long[] selectedFindingIds,
+            long[] selectedDiagnosisIds,
+            LocationEvaluation location,
+            FindingScore findingsScore,
+            DiagnosisScore diagnosisScore,
+            double finalScore,
+            String explanation
+    ) {
     }
 
-    private record ScoredDiagnoses(double score, List<String> correctNames, long invalidCount) {
+    private record BatchOutcome(Long caseId, ScoredAttempt scored, int status, String error) {
+        static BatchOutcome failed(Long caseId, HttpStatus status, String error) {
+            return new BatchOutcome(caseId, null, status.value(), error);
+        }
     }
 }
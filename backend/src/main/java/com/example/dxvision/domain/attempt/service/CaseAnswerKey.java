@@ -0,0 +1,204 @@
+package com.example.dxvision.domain.attempt.service;
+
+import com.example.dxvision.domain.casefile.CaseDiagnosis;
+import com.example.dxvision.domain.casefile.CaseFinding;
+import com.example.dxvision.domain.casefile.ImageCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Immutable, precompiled answer key for one (caseId, version).
+ * - finding/diagnosis ids are sorted primitive arrays looked up with binary search
+ * - lesion JSON is parsed once into {@link LesionGeometry}
+ * Scoring against it needs no JSON parsing, no lazy loading and no per-request maps.
+ */
+final class CaseAnswerKey {
+    private final long caseId;
+    private final long version;
+
+    private final long[] findingIds;
+    private final boolean[] findingRequired;
+    private final int requiredCount;
+    private final List<String> requiredFindingLabels;
+
+    private final long[] diagnosisIds;
+    private final double[] diagnosisWeights;
+    private final double totalWeight;
+    private final List<String> diagnosisNames;
+
+    private final LesionGeometry lesion;
+
+    private CaseAnswerKey(
+            long caseId,
+            long version,
+            long[] findingIds,
+            boolean[] findingRequired,
+            List<String> requiredFindingLabels,
+            long[] diagnosisIds,
+            double[] diagnosisWeights,
+            List<String> diagnosisNames,
+            LesionGeometry lesion
+    ) {
+        this.caseId = caseId;
+        this.version = version;
+        this.findingIds = findingIds;
+        this.findingRequired = findingRequired;
+        this.requiredFindingLabels = requiredFindingLabels;
+        this.diagnosisIds = diagnosisIds;
+        this.diagnosisWeights = diagnosisWeights;
+        this.diagnosisNames = diagnosisNames;
+        this.lesion = lesion;
+
+        int required = 0;
+        for (boolean r : findingRequired) {
+            if (r) {
+                required++;
+            }
+        }
+        this.requiredCount = required;
+        this.totalWeight = Arrays.stream(diagnosisWeights).sum();
+    }
+
+    /**
+     * Requires findings/diagnoses (and their Finding/Diagnosis) to be initialized, e.g. via findWithOptionsById.
+     */
+    static CaseAnswerKey compile(ImageCase imageCase, ObjectMapper objectMapper) {
+        List<CaseFinding> findings = new ArrayList<>(imageCase.getFindings());
+        findings.sort(Comparator.comparing(cf -> cf.getFinding().getId()));
+        long[] findingIds = new long[findings.size()];
+        boolean[] required = new boolean[findings.size()];
+        List<String> requiredLabels = new ArrayList<>();
+        for (int i = 0; i < findings.size(); i++) {
+            CaseFinding cf = findings.get(i);
+            findingIds[i] = cf.getFinding().getId();
+            required[i] = cf.isRequiredFinding();
+            if (cf.isRequiredFinding()) {
+                requiredLabels.add(cf.getFinding().getLabel());
+            }
+        }
+
+        List<CaseDiagnosis> diagnoses = new ArrayList<>(imageCase.getDiagnoses());
+        diagnoses.sort(Comparator.comparing(cd -> cd.getDiagnosis().getId()));
+        long[] diagnosisIds = new long[diagnoses.size()];
+        double[] weights = new double[diagnoses.size()];
+        List<String> names = new ArrayList<>(diagnoses.size());
+        for (int i = 0; i < diagnoses.size(); i++) {
+            CaseDiagnosis cd = diagnoses.get(i);
+            diagnosisIds[i] = cd.getDiagnosis().getId();
+            weights[i] = cd.getWeight();
+            names.add(cd.getDiagnosis().getName());
+        }
+
+        LesionGeometry lesion;
+        try {
+            lesion = LesionGeometry.parse(objectMapper.readTree(imageCase.getLesionDataJson()));
+        } catch (Exception ex) {
+            // 잘못된 lesion 데이터는 채점 시점에 400 으로 응답 (기존 동작 유지)
+            lesion = null;
+        }
+
+        return new CaseAnswerKey(
+                imageCase.getId(),
+                imageCase.getVersion(),
+                findingIds,
+                required,
+                List.copyOf(requiredLabels),
+                diagnosisIds,
+                weights,
+                List.copyOf(names),
+                lesion
+        );
+    }
+
+    static long[] distinctSorted(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return new long[0];
+        }
+        return ids.stream().filter(Objects::nonNull).mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+
+    long caseId() {
+        return caseId;
+    }
+
+    long version() {
+        return version;
+    }
+
+    boolean hasFinding(long findingId) {
+        return Arrays.binarySearch(findingIds, findingId) >= 0;
+    }
+
+    boolean hasDiagnosis(long diagnosisId) {
+        return Arrays.binarySearch(diagnosisIds, diagnosisId) >= 0;
+    }
+
+    LocationEvaluation evaluateLocation(double clickX, double clickY) {
+        if (lesion == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid lesion data");
+        }
+        return lesion.evaluate(clickX, clickY);
+    }
+
+    /**
+     * @param selected distinct ids (see {@link #distinctSorted})
+     */
+    FindingScore scoreFindings(long[] selected) {
+        int matched = 0;
+        int invalid = 0;
+        for (long id : selected) {
+            int idx = Arrays.binarySearch(findingIds, id);
+            if (idx < 0) {
+                invalid++;
+            } else if (findingRequired[idx]) {
+                matched++;
+            }
+        }
+        int extra = selected.length - matched;
+        double correctRate = requiredCount == 0 ? 0.0 : (double) matched / requiredCount;
+        double wrongRate = selected.length == 0 ? 0.0 : (double) extra / selected.length;
+        double score = Math.max(0, correctRate - 0.5 * wrongRate) * 100.0;
+        return new FindingScore(score, matched, requiredCount - matched, extra, invalid, requiredFindingLabels);
+    }
+
+    DiagnosisScore scoreDiagnoses(long[] selected) {
+        int matched = 0;
+        int invalid = 0;
+        double selectedWeight = 0.0;
+        for (long id : selected) {
+            int idx = Arrays.binarySearch(diagnosisIds, id);
+            if (idx < 0) {
+                invalid++;
+            } else {
+                matched++;
+                selectedWeight += diagnosisWeights[idx];
+            }
+        }
+        if (totalWeight == 0) {
+            return new DiagnosisScore(0.0, matched, 0, List.of());
+        }
+        double ratio = selectedWeight / totalWeight;
+        double score = Math.min(100.0, Math.max(0.0, ratio * 100.0));
+        return new DiagnosisScore(score, matched, invalid, diagnosisNames);
+    }
+
+    record FindingScore(
+            double score,
+            int matched,
+            int missing,
+            int extra,
+            int invalid,
+            List<String> correctLabels
+    ) {
+    }
+
+    record DiagnosisScore(double score, int matched, int invalid, List<String> correctNames) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.dxvision.domain.attempt.service;
+
+import com.example.dxvision.domain.casefile.ImageCase;
+import com.example.dxvision.domain.casefile.event.ImageCaseChangedEvent;
+import com.example.dxvision.domain.repository.ImageCaseRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * caseId -> compiled answer key. An entry is only used when its version matches the loaded
+ * ImageCase, so a version bump (incrementVersion) invalidates it even before the change event
+ * arrives; events evict eagerly to free memory and to pick up non-versioned edits.
+ */
+@Component
+public class CaseAnswerKeyCache {
+    private final ImageCaseRepository imageCaseRepository;
+    private final ObjectMapper objectMapper;
+    private final Map<Long, CaseAnswerKey> keys = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public CaseAnswerKeyCache(
+            ImageCaseRepository imageCaseRepository,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.imageCaseRepository = imageCaseRepository;
+        this.objectMapper = objectMapper;
+        this.hitCounter = Counter.builder("dxvision.attempt.answer-key.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("dxvision.attempt.answer-key.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Must be called inside a transaction; a miss loads the case with its options in one query.
+     */
+    CaseAnswerKey get(ImageCase imageCase) {
+        CaseAnswerKey cached = keys.get(imageCase.getId());
+        if (cached != null && cached.version() == imageCase.getVersion()) {
+            hitCounter.increment();
+            return cached;
+        }
+        missCounter.increment();
+        ImageCase withOptions = imageCaseRepository.findWithOptionsById(imageCase.getId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Case not found"));
+        CaseAnswerKey compiled = CaseAnswerKey.compile(withOptions, objectMapper);
+        keys.put(compiled.caseId(), compiled);
+        return compiled;
+    }
+
+    /**
+     * Batch variant: all misses are compiled from a single entity-graph query.
+     */
+    Map<Long, CaseAnswerKey> getAll(Collection<ImageCase> imageCases) {
+        Map<Long, CaseAnswerKey> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (ImageCase imageCase : imageCases) {
+            CaseAnswerKey cached = keys.get(imageCase.getId());
+            if (cached != null && cached.version() == imageCase.getVersion()) {
+                hitCounter.increment();
+                result.put(imageCase.getId(), cached);
+            } else {
+                missing.add(imageCase.getId());
+            }
+        }
+        if (!missing.isEmpty()) {
+            missCounter.increment(missing.size());
+            for (ImageCase withOptions : imageCaseRepository.findAllWithOptionsByIdIn(missing)) {
+                CaseAnswerKey compiled = CaseAnswerKey.compile(withOptions, objectMapper);
+                keys.put(compiled.caseId(), compiled);
+                result.put(compiled.caseId(), compiled);
+            }
+        }
+        return result;
+    }
+
+    public void evict(Long caseId) {
+        keys.remove(caseId);
+    }
+
+    /**
+     * Labels/names are embedded in keys, so taxonomy edits drop everything.
+     */
+    public void evictAll() {
+        keys.clear();
+    }
+
+    @TransactionalEventListener
+    public void onCaseChanged(ImageCaseChangedEvent event) {
+        evict(event.caseId());
+    }
+}
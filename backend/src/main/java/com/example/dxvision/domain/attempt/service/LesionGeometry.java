@@ -0,0 +1,82 @@
+package com.example.dxvision.domain.attempt.service;
+
+import com.example.dxvision.domain.attempt.LocationGrade;
+import com.example.dxvision.domain.casefile.LesionShapeType;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Parsed lesion shape (normalized 0..1 coordinates) used to grade a click.
+ */
+sealed interface LesionGeometry {
+
+    LocationEvaluation evaluate(double clickX, double clickY);
+
+    static LesionGeometry parse(JsonNode node) {
+        String type = node.path("type").asText(LesionShapeType.CIRCLE.name());
+        if (type.equalsIgnoreCase(LesionShapeType.RECT.name())) {
+            return new Rect(
+                    node.path("x").asDouble(),
+                    node.path("y").asDouble(),
+                    node.path("w").asDouble(),
+                    node.path("h").asDouble()
+            );
+        }
+        return new Circle(node.path("cx").asDouble(), node.path("cy").asDouble(), node.path("r").asDouble());
+    }
+
+    record Circle(double cx, double cy, double r) implements LesionGeometry {
+        @Override
+        public LocationEvaluation evaluate(double clickX, double clickY) {
+            double dx = clickX - cx;
+            double dy = clickY - cy;
+            double distance = Math.sqrt(dx * dx + dy * dy);
+
+            LocationGrade grade;
+            double score;
+            if (distance <= r) {
+                grade = LocationGrade.INSIDE;
+                score = 100.0;
+            } else if (distance <= r * 1.5) {
+                grade = LocationGrade.NEAR;
+                score = 70.0;
+            } else if (distance <= r * 2.5) {
+                grade = LocationGrade.FAR;
+                score = 30.0;
+            } else {
+                grade = LocationGrade.WRONG;
+                score = 0.0;
+            }
+            String explanation = "Location grade: %s (distance=%.3f, radius=%.3f)".formatted(grade, distance, r);
+            return new LocationEvaluation(grade, score, explanation);
+        }
+    }
+
+    record Rect(double x, double y, double w, double h) implements LesionGeometry {
+        @Override
+        public LocationEvaluation evaluate(double clickX, double clickY) {
+            double dx = Math.max(Math.max(x - clickX, 0), clickX - (x + w));
+            double dy = Math.max(Math.max(y - clickY, 0), clickY - (y + h));
+            boolean inside = dx == 0 && dy == 0;
+            double distance = Math.sqrt(dx * dx + dy * dy);
+            double base = Math.max(w, h) / 2.0;
+            LocationGrade grade;
+            double score;
+            if (inside) {
+                grade = LocationGrade.INSIDE;
+                score = 100.0;
+            } else if (distance <= base * 0.5) {
+                grade = LocationGrade.NEAR;
+                score = 70.0;
+            } else if (distance <= base * 1.5) {
+                grade = LocationGrade.FAR;
+                score = 30.0;
+            } else {
+                grade = LocationGrade.WRONG;
+                score = 0.0;
+            }
+            String explanation = "Location grade: %s (rect distance=%.3f, size=%.3fx%.3f)".formatted(
+                    grade, distance, w, h);
+            return new LocationEvaluation(grade, score, explanation);
+        }
+    }
+}
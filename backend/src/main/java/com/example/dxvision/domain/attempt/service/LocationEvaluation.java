@@ -0,0 +1,6 @@
+package com.example.dxvision.domain.attempt.service;
+
+import com.example.dxvision.domain.attempt.LocationGrade;
+
+record LocationEvaluation(LocationGrade grade, double score, String explanation) {
+}
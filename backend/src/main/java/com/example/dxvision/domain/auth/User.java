@@ -10,16 +10,25 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "users")
+@Table(
+        name = "users",
+        indexes = {
+                @Index(name = "idx_users_email_key", columnList = "email_key"),
+                @Index(name = "idx_users_name_key", columnList = "name_key")
+        }
+)
 @Getter
 @NoArgsConstructor
 public class User {
@@ -37,6 +46,16 @@ public class User {
     @Column(nullable = false, length = 120)
     private String name;
 
+    /**
+     * Lower-cased email/name for index-backed prefix search; rows created before these columns
+     * are filled at startup.
+     */
+    @Column(name = "email_key", length = 255)
+    private String emailKey;
+
+    @Column(name = "name_key", length = 120)
+    private String nameKey;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private Role role;
@@ -49,6 +68,7 @@ public class User {
      * Managed by DB (DEFAULT CURRENT_TIMESTAMP).
      * Read-only in JPA to avoid migration issues with existing rows.
      */
+    @ColumnDefault("CURRENT_TIMESTAMP")
     @Column(name = "created_at", nullable = false, updatable = false, insertable = false)
     private Instant createdAt;
 
@@ -56,6 +76,7 @@ public class User {
      * Managed by DB (DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP).
      * Read-only in JPA to avoid drift; DB is source of truth.
      */
+    @ColumnDefault("CURRENT_TIMESTAMP")
     @Column(name = "updated_at", nullable = false, insertable = false, updatable = false)
     private Instant updatedAt;
 
@@ -72,6 +93,8 @@ public class User {
         this.name = name;
         this.role = role;
         this.status = (status == null) ? UserStatus.ACTIVE : status;
+        this.emailKey = searchKey(email);
+        this.nameKey = searchKey(name);
     }
 
     public void updatePassword(String encodedPassword) {
@@ -80,6 +103,7 @@ public class User {
 
     public void updateName(String name) {
         this.name = name;
+        this.nameKey = searchKey(name);
     }
 
     public void updateRole(Role role) {
@@ -89,4 +113,8 @@ public class User {
     public void updateStatus(UserStatus status) {
         this.status = status;
     }
+
+    public static String searchKey(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
 }
@@ -4,7 +4,7 @@ import com.example.dxvision.domain.auth.dto.AuthResponse;
 import com.example.dxvision.domain.auth.dto.LoginRequest;
 import com.example.dxvision.domain.auth.dto.SignupRequest;
 import com.example.dxvision.domain.auth.dto.UserInfoResponse;
-import com.example.dxvision.domain.auth.security.CustomUserDetails;
+import com.example.dxvision.domain.auth.security.JwtPrincipal;
 import com.example.dxvision.domain.auth.service.AuthService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
@@ -44,10 +44,9 @@ public class AuthController {
      */
     @GetMapping("/me")
     public UserInfoResponse me(@AuthenticationPrincipal Object principal) {
-        if (!(principal instanceof CustomUserDetails userDetails)) {
+        if (!(principal instanceof JwtPrincipal jwtPrincipal)) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
         }
-        var user = userDetails.getUser();
-        return new UserInfoResponse(user.getId(), user.getEmail(), user.getName(), user.getRole());
+        return authService.getUserInfo(jwtPrincipal.userId());
     }
 }
@@ -28,9 +28,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String header = request.getHeader(HttpHeaders.AUTHORIZATION);
         try {
             if (header != null && header.startsWith("Bearer ")) {
-                String token = header.substring(7);
-                if (jwtTokenProvider.validateToken(token)) {
-                    Authentication authentication = jwtTokenProvider.getAuthentication(token);
+                // 서명/만료 검증과 클레임 추출을 한 번의 파싱으로 처리 (users 조회 없음)
+                Authentication authentication = jwtTokenProvider.getAuthentication(header.substring(7));
+                if (authentication != null) {
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                 } else {
                     SecurityContextHolder.clearContext();
@@ -0,0 +1,22 @@
+package com.example.dxvision.domain.auth.security;
+
+import com.example.dxvision.domain.auth.Role;
+import java.security.Principal;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Authenticated principal built from verified JWT claims only; no users row is loaded per request.
+ */
+public record JwtPrincipal(Long userId, String email, Role role) implements Principal {
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public Collection<? extends GrantedAuthority> authorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+}
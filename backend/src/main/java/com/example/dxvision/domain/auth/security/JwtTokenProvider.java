@@ -1,6 +1,10 @@
 package com.example.dxvision.domain.auth.security;
 
+import com.example.dxvision.domain.auth.Role;
+import com.example.dxvision.domain.auth.security.VerifiedTokenCache.VerifiedToken;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
@@ -8,24 +12,29 @@ import java.util.Date;
 import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JwtTokenProvider {
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long expirationMs;
-    private final UserDetailsService userDetailsService;
+    private final UserStatusCache userStatusCache;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public JwtTokenProvider(
             @Value("${app.jwt.secret}") String secret,
             @Value("${app.jwt.expiration-ms}") long expirationMs,
-            UserDetailsService userDetailsService
+            UserStatusCache userStatusCache,
+            VerifiedTokenCache verifiedTokenCache
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
         this.expirationMs = expirationMs;
-        this.userDetailsService = userDetailsService;
+        this.userStatusCache = userStatusCache;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     public String createToken(CustomUserDetails userDetails) {
@@ -42,26 +51,41 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
-            return true;
-        } catch (Exception ex) {
-            return false;
+    /**
+     * Resolves the principal from the verified-claims cache, verifying the token on a miss.
+     *
+     * @return null when the token is malformed, expired or badly signed
+     * @throws DisabledException when the account has been disabled since the token was issued
+     */
+    public Authentication getAuthentication(String token) {
+        JwtPrincipal principal = verifiedTokenCache.getOrVerify(token, this::verify);
+        if (principal == null) {
+            return null;
+        }
+        if (!userStatusCache.isActive(principal.userId())) {
+            throw new DisabledException("User is disabled");
         }
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.authorities());
     }
 
-    public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
-        String email = claims.getSubject();
-        CustomUserDetails userDetails = (CustomUserDetails) userDetailsService.loadUserByUsername(email);
-        if (!userDetails.isEnabled()) {
-            throw new DisabledException("User is disabled");
+    /**
+     * Full signature/expiry verification and claim extraction in a single parse.
+     */
+    public VerifiedToken verify(String token) {
+        try {
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            Long userId = claims.get("userId", Long.class);
+            if (userId == null || claims.getExpiration() == null) {
+                return null;
+            }
+            JwtPrincipal principal = new JwtPrincipal(
+                    userId,
+                    claims.getSubject(),
+                    Role.valueOf(claims.get("role", String.class))
+            );
+            return new VerifiedToken(principal, claims.getExpiration().toInstant());
+        } catch (JwtException | IllegalArgumentException | NullPointerException ex) {
+            return null;
         }
-        return new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
-                userDetails,
-                null,
-                userDetails.getAuthorities()
-        );
     }
 }
@@ -0,0 +1,206 @@
+package com.example.dxvision.domain.auth.security;
+
+import com.example.dxvision.global.exception.GlobalExceptionHandler;
+import com.example.dxvision.global.ratelimit.RateLimitPolicy;
+import com.example.dxvision.global.ratelimit.RateLimiter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Throttles signup/login before any BCrypt work or user lookup: one budget per client IP and one per
+ * submitted email, so a single source cannot spray accounts and a single account cannot be hammered
+ * from many sources. Rejections are 429 with Retry-After.
+ */
+@Component
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+    private static final Set<String> THROTTLED_PATHS = Set.of("/api/v1/auth/login", "/api/v1/auth/signup");
+    // 로그인/가입 요청 본문은 작음. 이보다 크면 413
+    private static final int MAX_INSPECTED_BODY_BYTES = 8 * 1024;
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final RateLimitPolicy ipPolicy;
+    private final RateLimitPolicy emailPolicy;
+    private final Counter ipRejectedCounter;
+    private final Counter emailRejectedCounter;
+
+    public LoginRateLimitFilter(
+            RateLimiter rateLimiter,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.rate-limit.auth.ip-limit:30}") int ipLimit,
+            @Value("${app.rate-limit.auth.ip-window-ms:60000}") long ipWindowMs,
+            @Value("${app.rate-limit.auth.email-limit:10}") int emailLimit,
+            @Value("${app.rate-limit.auth.email-window-ms:300000}") long emailWindowMs
+    ) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.ipPolicy = new RateLimitPolicy("auth-ip", ipLimit, ipWindowMs);
+        this.emailPolicy = new RateLimitPolicy("auth-email", emailLimit, emailWindowMs);
+        this.ipRejectedCounter = Counter.builder("dxvision.auth.ratelimit.rejected")
+                .tag("scope", "ip")
+                .description("Signup/login requests rejected by the per-IP budget")
+                .register(meterRegistry);
+        this.emailRejectedCounter = Counter.builder("dxvision.auth.ratelimit.rejected")
+                .tag("scope", "email")
+                .description("Signup/login requests rejected by the per-email budget")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || !THROTTLED_PATHS.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        // 프록시 뒤에서는 server.forward-headers-strategy 로 remoteAddr 를 복원 (X-Forwarded-For 직접 신뢰 X)
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(ipPolicy, request.getRemoteAddr());
+        if (!decision.allowed()) {
+            ipRejectedCounter.increment();
+            reject(request, response, decision);
+            return;
+        }
+
+        byte[] body = request.getInputStream().readNBytes(MAX_INSPECTED_BODY_BYTES + 1);
+        if (body.length > MAX_INSPECTED_BODY_BYTES) {
+            response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            return;
+        }
+        String email = extractEmail(body);
+        if (email != null) {
+            decision = rateLimiter.tryAcquire(emailPolicy, email);
+            if (!decision.allowed()) {
+                emailRejectedCounter.increment();
+                reject(request, response, decision);
+                return;
+            }
+        }
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    private String extractEmail(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).path("email");
+            return email.isTextual() && !email.asText().isBlank()
+                    ? email.asText().trim().toLowerCase(Locale.ROOT)
+                    : null;
+        } catch (IOException ex) {
+            // 잘못된 JSON 은 컨트롤러에서 400 처리
+            return null;
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, RateLimiter.Decision decision)
+            throws IOException {
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, (decision.retryAfterMs() + 999) / 1000)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        GlobalExceptionHandler.ErrorResponse body = new GlobalExceptionHandler.ErrorResponse(
+                Instant.now().toString(),
+                status.value(),
+                status.getReasonPhrase(),
+                "Too many authentication attempts, please retry later",
+                request.getRequestURI(),
+                List.of()
+        );
+        response.getWriter().write(objectMapper.writeValueAsString(body));
+    }
+
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    // 본문이 이미 메모리에 있으므로 즉시 전부 읽을 수 있음
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException ex) {
+                        readListener.onError(ex);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(
+                    getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8
+            ));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.dxvision.domain.auth.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Small fixed pool for deliberately expensive password hashing (BCrypt), so a login burst is bounded
+ * to {@code threads} CPU-bound hashes plus {@code queueCapacity} waiters instead of pinning every
+ * Tomcat worker. Anything beyond that — or anything that waits longer than {@code maxWaitMs} — is
+ * rejected immediately with 503 + Retry-After.
+ * <p>
+ * The timeout only frees the caller: a queued hash is dropped before it starts, but a running BCrypt
+ * hash cannot be interrupted and still finishes on its thread. Admission control is what bounds the
+ * work, so size {@code queueCapacity} so that a full queue drains within {@code maxWaitMs}
+ * ({@code ceil(queueCapacity / threads)} hash times); timeouts should then only occur when hashing is
+ * unexpectedly slow.
+ */
+@Component
+public class PasswordHashingExecutor {
+    private static final Logger log = LoggerFactory.getLogger(PasswordHashingExecutor.class);
+
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMs;
+    private final long retryAfterSeconds;
+    private final Map<Operation, Timer> hashTimers = new EnumMap<>(Operation.class);
+    private final Timer queueWaitTimer;
+    private final Counter saturatedCounter;
+    private final Counter timeoutCounter;
+
+    public PasswordHashingExecutor(
+            @Value("${app.security.password-hashing.threads:0}") int threads,
+            @Value("${app.security.password-hashing.queue-capacity:32}") int queueCapacity,
+            @Value("${app.security.password-hashing.max-wait-ms:5000}") long maxWaitMs,
+            @Value("${app.security.password-hashing.retry-after-seconds:2}") long retryAfterSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        // 0 = 코어 절반 (요청 처리용 CPU 를 남겨 둠)
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        BlockingQueue<Runnable> queue = queueCapacity > 0
+                ? new ArrayBlockingQueue<>(queueCapacity)
+                : new SynchronousQueue<>();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                queue,
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.maxWaitMs = maxWaitMs;
+        this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+        for (Operation operation : Operation.values()) {
+            hashTimers.put(operation, Timer.builder("dxvision.auth.password.hash")
+                    .tag("operation", operation.name().toLowerCase(Locale.ROOT))
+                    .description("Time spent computing password hashes")
+                    .register(meterRegistry));
+        }
+        this.queueWaitTimer = Timer.builder("dxvision.auth.password.hash.queue.wait")
+                .description("Time a password hash waited for a hashing thread")
+                .register(meterRegistry);
+        this.saturatedCounter = Counter.builder("dxvision.auth.password.hash.rejected")
+                .tag("reason", "saturated")
+                .description("Password hashes rejected because the pool and queue were full")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("dxvision.auth.password.hash.rejected")
+                .tag("reason", "timeout")
+                .description("Password hashes abandoned after waiting longer than max-wait-ms")
+                .register(meterRegistry);
+        Gauge.builder("dxvision.auth.password.hash.queue.depth", executor, e -> e.getQueue().size())
+                .description("Password hashes waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("dxvision.auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashes currently running")
+                .register(meterRegistry);
+        log.info("Password hashing pool: threads={}, queueCapacity={}, maxWaitMs={}", poolSize, queueCapacity, maxWaitMs);
+    }
+
+    /**
+     * Runs {@code task} on the hashing pool and waits for it; the caller's own runtime exceptions are
+     * rethrown as-is, saturation and over-long waits surface as 503.
+     */
+    public <T> T execute(Operation operation, Supplier<T> task) {
+        Timer hashTimer = hashTimers.get(operation);
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.record(task);
+            });
+        } catch (RejectedExecutionException ex) {
+            saturatedCounter.increment();
+            throw busy();
+        }
+
+        try {
+            return future.get(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | CancellationException ex) {
+            // 대기 중이면 실행되지 않고, 이미 실행 중인 해시는 끝까지 돈 뒤 결과만 버려짐
+            future.cancel(false);
+            timeoutCounter.increment();
+            throw busy();
+        } catch (InterruptedException ex) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    public enum Operation {
+        ENCODE,
+        MATCHES
+    }
+
+    private ResponseStatusException busy() {
+        return new HashingBusyException(retryAfterSeconds);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    static class HashingBusyException extends ResponseStatusException {
+        private final long retryAfterSeconds;
+
+        HashingBusyException(long retryAfterSeconds) {
+            super(HttpStatus.SERVICE_UNAVAILABLE, "Authentication is busy, please retry shortly");
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+            return headers;
+        }
+    }
+}
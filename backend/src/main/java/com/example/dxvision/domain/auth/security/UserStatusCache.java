@@ -0,0 +1,51 @@
+package com.example.dxvision.domain.auth.security;
+
+import com.example.dxvision.domain.auth.UserStatus;
+import com.example.dxvision.domain.repository.UserRepository;
+import com.example.dxvision.global.cache.TtlCache;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Account status lookups for the stateless JWT path. Status changes made through this instance are
+ * visible as soon as they commit (the writer invalidates, again after commit); other instances pick them
+ * up within the TTL.
+ */
+@Component
+public class UserStatusCache {
+    private final UserRepository userRepository;
+    private final TtlCache<Long, UserStatus> statuses;
+
+    public UserStatusCache(
+            UserRepository userRepository,
+            @Value("${app.security.user-status-cache-ttl-ms:30000}") long ttlMs,
+            @Value("${app.security.user-status-cache-max-size:10000}") int maxSize
+    ) {
+        this.userRepository = userRepository;
+        this.statuses = new TtlCache<>(Duration.ofMillis(ttlMs), maxSize);
+    }
+
+    /**
+     * False for disabled or unknown users.
+     */
+    public boolean isActive(Long userId) {
+        UserStatus status = statuses.get(userId, id -> userRepository.findStatusById(id).orElse(null));
+        return status != null && status != UserStatus.DISABLED;
+    }
+
+    public void invalidate(Long userId) {
+        statuses.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 커밋 전 상태로 다시 채워졌을 수 있으므로 커밋 후 한 번 더 제거
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    statuses.invalidate(userId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.dxvision.domain.auth.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Claims of tokens whose signature has already been verified, keyed by SHA-256 of the token so raw
+ * bearer tokens are not retained. Entries die at the token's own {@code exp}; the map is size-bounded.
+ * A hit skips base64/JSON decoding and the HMAC check; account status is still checked by the caller.
+ */
+@Component
+public class VerifiedTokenCache {
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    });
+
+    private final ConcurrentHashMap<String, VerifiedToken> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final Clock clock;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    @Autowired
+    public VerifiedTokenCache(
+            @Value("${app.jwt.verified-cache-max-size:10000}") int maxSize,
+            MeterRegistry meterRegistry
+    ) {
+        this(maxSize, meterRegistry, Clock.systemUTC());
+    }
+
+    VerifiedTokenCache(int maxSize, MeterRegistry meterRegistry, Clock clock) {
+        this.maxSize = Math.max(1, maxSize);
+        this.clock = clock;
+        this.hitCounter = Counter.builder("dxvision.jwt.verify.cache")
+                .tag("result", "hit")
+                .description("Bearer tokens resolved from the verified-claims cache")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("dxvision.jwt.verify.cache")
+                .tag("result", "miss")
+                .description("Bearer tokens that needed full signature verification")
+                .register(meterRegistry);
+        Gauge.builder("dxvision.jwt.verify.cache.size", entries, Map::size)
+                .description("Verified tokens held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached principal or runs {@code verifier}; null (invalid token) is not cached.
+     */
+    public JwtPrincipal getOrVerify(String token, Function<String, VerifiedToken> verifier) {
+        String key = digest(token);
+        long now = clock.millis();
+        VerifiedToken cached = entries.get(key);
+        if (cached != null) {
+            if (now < cached.expiresAt().toEpochMilli()) {
+                hitCounter.increment();
+                return cached.principal();
+            }
+            entries.remove(key, cached);
+        }
+        missCounter.increment();
+
+        VerifiedToken verified = verifier.apply(token);
+        if (verified == null) {
+            return null;
+        }
+        if (entries.size() >= maxSize) {
+            evict(now);
+        }
+        entries.put(key, verified);
+        return verified.principal();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 만료된 토큰 우선 제거, 그래도 가득 차면 임의 항목을 1/4 정도 비움
+    private void evict(long now) {
+        entries.values().removeIf(token -> now >= token.expiresAt().toEpochMilli());
+        int excess = entries.size() - maxSize * 3 / 4;
+        Iterator<String> iterator = entries.keySet().iterator();
+        while (excess-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    public record VerifiedToken(JwtPrincipal principal, Instant expiresAt) {
+    }
+}
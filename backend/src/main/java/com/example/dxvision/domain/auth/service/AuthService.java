@@ -60,6 +60,12 @@ public class AuthService {
         return new AuthResponse(token, toUserInfo(userDetails.getUser()));
     }
 
+    public UserInfoResponse getUserInfo(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found"));
+        return toUserInfo(user);
+    }
+
     private UserInfoResponse toUserInfo(User user) {
         return new UserInfoResponse(user.getId(), user.getEmail(), user.getName(), user.getRole());
     }
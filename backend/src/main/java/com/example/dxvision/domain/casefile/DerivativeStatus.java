@@ -0,0 +1,14 @@
+package com.example.dxvision.domain.casefile;
+
+/**
+ * State of the resized renditions of a case image.
+ */
+public enum DerivativeStatus {
+    PENDING,
+    READY,
+    FAILED,
+    /**
+     * Image is not a local upload (external URL); served as-is.
+     */
+    SKIPPED
+}
@@ -9,6 +9,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
@@ -28,7 +29,14 @@ import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
 @Entity
-@Table(name = "image_cases")
+@Table(
+        name = "image_cases",
+        indexes = {
+                @Index(name = "idx_image_cases_deleted_updated_id", columnList = "deleted_at, updated_at, id"),
+                @Index(name = "idx_image_cases_updated_id", columnList = "updated_at, id"),
+                @Index(name = "idx_image_cases_image_url", columnList = "image_url")
+        }
+)
 @SQLDelete(sql = "UPDATE image_cases SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
 @Where(clause = "deleted_at IS NULL")
 @Getter
@@ -70,6 +78,16 @@ public class ImageCase {
     @Column(nullable = false, length = 500)
     private String imageUrl;
 
+    /**
+     * Renditions of imageUrl; null for rows that predate the pipeline (picked up by its sweep).
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private DerivativeStatus derivativeStatus;
+
+    @Column(length = 500)
+    private String derivativeError;
+
     /**
      * MVP location scoring uses CIRCLE; shape type allows future extensibility.
      */
@@ -142,6 +160,7 @@ public class ImageCase {
         this.modality = modality;
         this.species = species;
         this.imageUrl = imageUrl;
+        this.derivativeStatus = DerivativeStatus.PENDING;
         this.lesionShapeType = lesionShapeType;
         this.lesionDataJson = lesionDataJson;
         this.expertFindingExplanation = expertFindingExplanation;
@@ -165,6 +184,10 @@ public class ImageCase {
         this.description = description;
         this.modality = modality;
         this.species = species;
+        if (!Objects.equals(this.imageUrl, imageUrl)) {
+            this.derivativeStatus = DerivativeStatus.PENDING;
+            this.derivativeError = null;
+        }
         this.imageUrl = imageUrl;
         this.lesionShapeType = lesionShapeType;
         this.lesionDataJson = lesionDataJson;
@@ -187,6 +210,14 @@ public class ImageCase {
         this.version = this.version + 1;
     }
 
+    /**
+     * Marks the case representation as changed even when only its option collections were edited
+     * (those do not dirty the case row itself).
+     */
+    public void touch() {
+        this.updatedAt = Instant.now();
+    }
+
     public void softDelete() {
         if (this.deletedAt == null) {
             this.deletedAt = Instant.now();
@@ -258,7 +289,9 @@ public class ImageCase {
             Long fid = req.getFinding().getId();
             CaseFinding existing = currentByFindingId.get(fid);
 
-            if (existing != null && this.findings.contains(existing)) {
+            // desired id 는 1) 단계에서 제거되지 않으므로 existing 은 여전히 컬렉션에 있음
+            // (contains 는 persist 후 hashCode 가 바뀌면 false 를 돌려주므로 사용하지 않음)
+            if (existing != null) {
                 // 기존 엔티티 재사용: required만 업데이트
                 existing.updateRequiredFinding(req.isRequiredFinding());
             } else {
@@ -304,7 +337,7 @@ public class ImageCase {
             Long did = req.getDiagnosis().getId();
             CaseDiagnosis existing = currentByDiagnosisId.get(did);
 
-            if (existing != null && this.diagnoses.contains(existing)) {
+            if (existing != null) {
                 existing.updateWeight(req.getWeight());
             } else {
                 addDiagnosis(new CaseDiagnosis(req.getDiagnosis(), req.getWeight()));
@@ -1,18 +1,25 @@
 package com.example.dxvision.domain.casefile.controller;
 
+import com.example.dxvision.domain.casefile.dto.CaseCursor;
 import com.example.dxvision.domain.casefile.dto.CaseListItemResponse;
 import com.example.dxvision.domain.casefile.dto.CaseListPageResponse;
 import com.example.dxvision.domain.casefile.dto.CaseOptionDto;
 import com.example.dxvision.domain.casefile.dto.CaseSearchRequest;
+import com.example.dxvision.domain.casefile.dto.CursorPageResponse;
+import com.example.dxvision.domain.casefile.dto.RandomCaseRequest;
+import com.example.dxvision.domain.casefile.service.CaseRevision;
 import com.example.dxvision.domain.casefile.service.CaseService;
 import com.example.dxvision.domain.progress.UserCaseStatus;
 import java.util.Optional;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/cases")
@@ -24,13 +31,33 @@ public class CaseController {
     }
 
     @GetMapping("/random")
-    public CaseOptionDto getRandomCase() {
-        return caseService.getRandomCase();
+    public CaseOptionDto getRandomCase(
+            @RequestParam Optional<String> modality,
+            @RequestParam Optional<String> species,
+            @RequestParam Optional<String> status,
+            @RequestParam(defaultValue = "false") boolean excludeSolved
+    ) {
+        RandomCaseRequest request = RandomCaseRequest.of(
+                modality,
+                species,
+                status.flatMap(this::parseStatus),
+                excludeSolved
+        );
+        return caseService.getRandomCase(request);
     }
 
     @GetMapping("/{caseId}")
-    public CaseOptionDto getCaseById(@PathVariable Long caseId) {
-        return caseService.getCaseById(caseId);
+    public ResponseEntity<CaseOptionDto> getCaseById(@PathVariable Long caseId, WebRequest webRequest) {
+        CaseRevision revision = caseService.getCaseRevision(caseId);
+        // 검증자가 일치하면 304 (엔티티/보기 목록 로딩 없이 종료)
+        if (webRequest.checkNotModified(revision.etag())) {
+            return null;
+        }
+        // 인증 뒤 응답이므로 공유 캐시 금지, 매번 재검증
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(revision.etag())
+                .body(caseService.getCaseById(caseId));
     }
 
     @GetMapping
@@ -41,9 +68,12 @@ public class CaseController {
             @RequestParam Optional<String> keyword,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "updatedAt,desc") String sort
+            @RequestParam(required = false) String sort
     ) {
-        Sort sortSpec = parseSort(sort);
+        // keyword 검색에서 sort 미지정 시 relevance 순
+        Sort sortSpec = sort == null && keyword.filter(k -> !k.isBlank()).isPresent()
+                ? Sort.unsorted()
+                : parseSort(sort);
         Optional<UserCaseStatus> statusEnum = status.flatMap(this::parseStatus);
 
         CaseSearchRequest request = CaseSearchRequest.of(
@@ -59,6 +89,28 @@ public class CaseController {
         return caseService.searchCases(request);
     }
 
+    @GetMapping("/scroll")
+    public CursorPageResponse<CaseListItemResponse> scrollCases(
+            @RequestParam Optional<String> modality,
+            @RequestParam Optional<String> species,
+            @RequestParam Optional<String> status,
+            @RequestParam Optional<String> keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        CaseSearchRequest request = CaseSearchRequest.of(
+                modality,
+                species,
+                status.flatMap(this::parseStatus),
+                keyword,
+                0,
+                size,
+                Sort.by(Sort.Order.desc("updatedAt"), Sort.Order.desc("id"))
+        );
+
+        return caseService.scrollCases(request, CaseCursor.decode(cursor));
+    }
+
     private Sort parseSort(String sort) {
         if (sort == null || sort.isBlank()) {
             return Sort.by(Sort.Direction.DESC, "updatedAt");
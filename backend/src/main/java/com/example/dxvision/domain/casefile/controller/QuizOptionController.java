@@ -3,12 +3,15 @@ package com.example.dxvision.domain.casefile.controller;
 import com.example.dxvision.domain.casefile.ImageCase;
 import com.example.dxvision.domain.casefile.OptionType;
 import com.example.dxvision.domain.casefile.dto.OptionFolderResponse;
-import com.example.dxvision.domain.casefile.service.OptionFolderService;
+import com.example.dxvision.domain.casefile.service.OptionTaxonomy;
+import com.example.dxvision.domain.casefile.service.OptionTaxonomyCache;
 import com.example.dxvision.domain.repository.ImageCaseRepository;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -18,17 +21,22 @@ import org.springframework.web.server.ResponseStatusException;
 @RestController
 @RequestMapping("/api/v1/quiz/options")
 public class QuizOptionController {
-    private final OptionFolderService optionFolderService;
+    private final OptionTaxonomyCache optionTaxonomyCache;
     private final ImageCaseRepository imageCaseRepository;
 
-    public QuizOptionController(OptionFolderService optionFolderService, ImageCaseRepository imageCaseRepository) {
-        this.optionFolderService = optionFolderService;
+    public QuizOptionController(OptionTaxonomyCache optionTaxonomyCache, ImageCaseRepository imageCaseRepository) {
+        this.optionTaxonomyCache = optionTaxonomyCache;
         this.imageCaseRepository = imageCaseRepository;
     }
 
     @GetMapping
-    public List<OptionFolderResponse> list(@RequestParam OptionType type, @RequestParam(required = false) Long caseId) {
+    public ResponseEntity<List<OptionFolderResponse>> list(
+            @RequestParam OptionType type,
+            @RequestParam(required = false) Long caseId
+    ) {
+        OptionTaxonomy taxonomy = optionTaxonomyCache.snapshot();
         Set<Long> allowed = null;
+        String etag = taxonomy.version();
         if (caseId != null) {
             ImageCase imageCase = imageCaseRepository.findWithOptionsById(caseId)
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Case not found"));
@@ -41,7 +49,13 @@ public class QuizOptionController {
                         .map(cd -> cd.getDiagnosis().getId())
                         .collect(Collectors.toSet());
             }
+            // 케이스 버전은 정답 변경 시에만 올라가므로 허용 항목 집합 자체를 태그에 반영
+            etag = etag + "-" + Integer.toHexString(allowed.stream().sorted().toList().hashCode());
         }
-        return optionFolderService.listFoldersWithItems(type, allowed);
+        // If-None-Match 가 일치하면 304 로 응답
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(etag)
+                .body(taxonomy.folders(type, allowed));
     }
 }
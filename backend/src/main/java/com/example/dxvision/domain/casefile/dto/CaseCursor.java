@@ -0,0 +1,38 @@
+package com.example.dxvision.domain.casefile.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Opaque keyset cursor for lists ordered by (updatedAt desc, id desc).
+ * Encoded as base64url("epochSecond.nano:id") so clients treat it as a token.
+ */
+public record CaseCursor(Instant updatedAt, Long id) {
+
+    public static CaseCursor decode(String raw) {
+        if (!StringUtils.hasText(raw)) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(raw), StandardCharsets.UTF_8);
+            int sep = decoded.indexOf(':');
+            int dot = decoded.indexOf('.');
+            Instant updatedAt = Instant.ofEpochSecond(
+                    Long.parseLong(decoded.substring(0, dot)),
+                    Long.parseLong(decoded.substring(dot + 1, sep))
+            );
+            return new CaseCursor(updatedAt, Long.parseLong(decoded.substring(sep + 1)));
+        } catch (RuntimeException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = updatedAt.getEpochSecond() + "." + updatedAt.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
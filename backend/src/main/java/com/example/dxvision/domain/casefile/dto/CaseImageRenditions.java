@@ -0,0 +1,34 @@
+package com.example.dxvision.domain.casefile.dto;
+
+import com.example.dxvision.domain.casefile.DerivativeStatus;
+import com.example.dxvision.global.storage.DeepZoomPyramid;
+import com.example.dxvision.global.storage.ImageRendition;
+
+/**
+ * URLs of the resized copies of a case image; clients fall back to imageUrl while this is null.
+ * {@code tileSourceUrl} is the Deep Zoom descriptor for viewport-only loading of the full resolution.
+ */
+public record CaseImageRenditions(
+        String thumbnailUrl,
+        String mediumUrl,
+        String fullUrl,
+        String tileSourceUrl
+) {
+    public static CaseImageRenditions of(String imageUrl, DerivativeStatus status) {
+        if (status != DerivativeStatus.READY || imageUrl == null) {
+            return null;
+        }
+        return new CaseImageRenditions(
+                ImageRendition.THUMBNAIL.derivedName(imageUrl),
+                ImageRendition.MEDIUM.derivedName(imageUrl),
+                ImageRendition.FULL.derivedName(imageUrl),
+                DeepZoomPyramid.descriptorName(imageUrl)
+        );
+    }
+
+    public static String thumbnailUrl(String imageUrl, DerivativeStatus status) {
+        return status == DerivativeStatus.READY && imageUrl != null
+                ? ImageRendition.THUMBNAIL.derivedName(imageUrl)
+                : null;
+    }
+}
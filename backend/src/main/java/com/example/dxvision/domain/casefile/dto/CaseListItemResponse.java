@@ -10,6 +10,7 @@ public record CaseListItemResponse(
         String title,
         Modality modality,
         Species species,
+        String thumbnailUrl,
         Instant updatedAt,
         UserCaseStatus status,
         Instant lastAttemptAt,
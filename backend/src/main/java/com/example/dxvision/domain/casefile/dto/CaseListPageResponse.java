@@ -2,11 +2,19 @@ package com.example.dxvision.domain.casefile.dto;
 
 import java.util.List;
 
+/**
+ * {@code truncated} is set when a keyword search hit app.search.max-candidates, so
+ * {@code totalElements} counts only the best-ranked candidates rather than every match.
+ */
 public record CaseListPageResponse<T>(
         List<T> content,
         int page,
         int size,
         long totalElements,
-        int totalPages
+        int totalPages,
+        boolean truncated
 ) {
+    public CaseListPageResponse(List<T> content, int page, int size, long totalElements, int totalPages) {
+        this(content, page, size, totalElements, totalPages, false);
+    }
 }
@@ -13,6 +13,7 @@ public record CaseOptionDto(
         Modality modality,
         Species species,
         String imageUrl,
+        CaseImageRenditions renditions,
         LesionShapeType lesionShapeType,
         List<FindingOptionDto> findings,
         List<DiagnosisOptionDto> diagnoses,
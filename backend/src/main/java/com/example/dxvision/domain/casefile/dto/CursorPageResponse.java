@@ -0,0 +1,19 @@
+package com.example.dxvision.domain.casefile.dto;
+
+import java.util.List;
+
+/**
+ * {@code truncated} is set when a keyword search hit app.search.max-candidates, so scrolling
+ * walks only the best-ranked candidates rather than every match.
+ */
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext,
+        boolean truncated
+) {
+    public CursorPageResponse(List<T> content, int size, String nextCursor, boolean hasNext) {
+        this(content, size, nextCursor, hasNext, false);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.dxvision.domain.casefile.dto;
+
+import com.example.dxvision.domain.progress.UserCaseStatus;
+import java.util.Optional;
+
+public record RandomCaseRequest(
+        String modality,
+        String species,
+        UserCaseStatus status,
+        boolean excludeSolved
+) {
+    public static RandomCaseRequest of(
+            Optional<String> modality,
+            Optional<String> species,
+            Optional<UserCaseStatus> status,
+            boolean excludeSolved
+    ) {
+        return new RandomCaseRequest(
+                modality.map(String::trim).filter(s -> !s.isEmpty()).orElse(null),
+                species.map(String::trim).filter(s -> !s.isEmpty()).orElse(null),
+                status.orElse(null),
+                excludeSolved
+        );
+    }
+
+    public boolean hasFilters() {
+        return modality != null || species != null || requiresUser();
+    }
+
+    public boolean requiresUser() {
+        return status != null || excludeSolved;
+    }
+}
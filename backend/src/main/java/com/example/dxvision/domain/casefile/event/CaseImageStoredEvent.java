@@ -0,0 +1,7 @@
+package com.example.dxvision.domain.casefile.event;
+
+/**
+ * Published when a case gets a new image; renditions are generated after commit.
+ */
+public record CaseImageStoredEvent(Long caseId, String imageUrl) {
+}
@@ -0,0 +1,14 @@
+package com.example.dxvision.domain.casefile.event;
+
+/**
+ * Published by admin case writes so in-memory read models can follow the catalogue.
+ * Listeners should react AFTER_COMMIT; the event only carries the id, never the entity.
+ */
+public record ImageCaseChangedEvent(Long caseId, ChangeType type) {
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED,
+        RESTORED
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.dxvision.domain.casefile.event;
+
+import com.example.dxvision.domain.casefile.OptionType;
+
+/**
+ * Published by folder/finding/diagnosis admin writes; {@code type} is the affected option type.
+ */
+public record OptionTaxonomyChangedEvent(OptionType type) {
+}
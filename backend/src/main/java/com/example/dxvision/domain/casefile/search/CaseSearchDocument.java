@@ -0,0 +1,29 @@
+package com.example.dxvision.domain.casefile.search;
+
+import com.example.dxvision.domain.casefile.ImageCase;
+import com.example.dxvision.domain.casefile.Modality;
+import com.example.dxvision.domain.casefile.Species;
+
+public record CaseSearchDocument(
+        Long caseId,
+        Modality modality,
+        Species species,
+        String title,
+        String description,
+        String expertFindingExplanation,
+        String expertDiagnosisExplanation,
+        String expertLocationExplanation
+) {
+    public static CaseSearchDocument from(ImageCase imageCase) {
+        return new CaseSearchDocument(
+                imageCase.getId(),
+                imageCase.getModality(),
+                imageCase.getSpecies(),
+                imageCase.getTitle(),
+                imageCase.getDescription(),
+                imageCase.getExpertFindingExplanation(),
+                imageCase.getExpertDiagnosisExplanation(),
+                imageCase.getExpertLocationExplanation()
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.dxvision.domain.casefile.search;
+
+import com.example.dxvision.domain.casefile.Modality;
+import com.example.dxvision.domain.casefile.Species;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Keyword search over the case catalogue. Implementations return ranked case ids only;
+ * callers still intersect with the DB (soft delete, progress filters) before responding.
+ */
+public interface CaseSearchEngine {
+
+    void index(CaseSearchDocument document);
+
+    void remove(Long caseId);
+
+    void rebuild(Collection<CaseSearchDocument> documents);
+
+    /**
+     * @param modality optional filter, null for any
+     * @param species  optional filter, null for any
+     * @param limit    maximum number of hits, best first
+     */
+    List<CaseSearchHit> search(String query, Modality modality, Species species, int limit);
+}
@@ -0,0 +1,4 @@
+package com.example.dxvision.domain.casefile.search;
+
+public record CaseSearchHit(Long caseId, double score) {
+}
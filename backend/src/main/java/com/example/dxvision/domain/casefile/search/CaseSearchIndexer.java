@@ -0,0 +1,100 @@
+package com.example.dxvision.domain.casefile.search;
+
+import com.example.dxvision.domain.casefile.event.ImageCaseChangedEvent;
+import com.example.dxvision.domain.repository.ImageCaseRepository;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class CaseSearchIndexer {
+    private static final Logger log = LoggerFactory.getLogger(CaseSearchIndexer.class);
+
+    private final ImageCaseRepository imageCaseRepository;
+    private final CaseSearchEngine caseSearchEngine;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final Object journalLock = new Object();
+    // 재구성 중에만 non-null: 스냅샷 조회와 교체 사이에 변경된 case id
+    private Set<Long> changedDuringRebuild;
+
+    public CaseSearchIndexer(ImageCaseRepository imageCaseRepository, CaseSearchEngine caseSearchEngine) {
+        this.imageCaseRepository = imageCaseRepository;
+        this.caseSearchEngine = caseSearchEngine;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.search.rebuild-interval-ms:600000}",
+            fixedDelayString = "${app.search.rebuild-interval-ms:600000}"
+    )
+    public void reconcile() {
+        rebuild();
+    }
+
+    /**
+     * Applies committed admin writes only, so a rolled-back edit or delete never reaches the index.
+     * The committed row is re-read (soft-deleted rows are filtered out); writes that bypass
+     * AdminCaseService, such as the seed runner, are picked up by the periodic rebuild.
+     */
+    @TransactionalEventListener
+    public void onCaseChanged(ImageCaseChangedEvent event) {
+        synchronized (journalLock) {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(event.caseId());
+            }
+        }
+        apply(event.caseId());
+    }
+
+    /**
+     * Replaces the index with a fresh snapshot, then re-reads every case changed while the snapshot was
+     * being loaded so the older snapshot never overwrites those changes.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            synchronized (journalLock) {
+                changedDuringRebuild = new HashSet<>();
+            }
+            List<CaseSearchDocument> documents;
+            try {
+                documents = imageCaseRepository.findAllSearchDocuments();
+            } catch (RuntimeException ex) {
+                endJournal();
+                throw ex;
+            }
+            caseSearchEngine.rebuild(documents);
+            Set<Long> changed = endJournal();
+            changed.forEach(this::apply);
+            log.debug("Case search index rebuilt with {} documents, {} changes replayed",
+                    documents.size(), changed.size());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private Set<Long> endJournal() {
+        synchronized (journalLock) {
+            Set<Long> changed = changedDuringRebuild;
+            changedDuringRebuild = null;
+            return changed;
+        }
+    }
+
+    private void apply(Long caseId) {
+        imageCaseRepository.findSearchDocumentById(caseId)
+                .ifPresentOrElse(caseSearchEngine::index, () -> caseSearchEngine.remove(caseId));
+    }
+}
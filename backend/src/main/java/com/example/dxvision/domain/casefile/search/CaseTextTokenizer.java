@@ -0,0 +1,74 @@
+package com.example.dxvision.domain.casefile.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits text into index terms.
+ * - Latin/digit runs are kept as whole lower-cased words (prefix matching happens at query time).
+ * - Hangul runs are split into overlapping bigrams so that particles (조사) do not break matching:
+ *   "폐렴이" -> [폐렴, 렴이], and a query for "폐렴" hits it.
+ */
+final class CaseTextTokenizer {
+    private CaseTextTokenizer() {
+    }
+
+    /**
+     * Query/index words: each word is a run of letters/digits of a single script.
+     */
+    static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return words;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        StringBuilder current = new StringBuilder();
+        boolean currentHangul = false;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                flush(current, words);
+                continue;
+            }
+            boolean hangul = isHangul(c);
+            if (!current.isEmpty() && hangul != currentHangul) {
+                flush(current, words);
+            }
+            currentHangul = hangul;
+            current.append(c);
+        }
+        flush(current, words);
+        return words;
+    }
+
+    static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String word : words(text)) {
+            terms.addAll(termsOfWord(word));
+        }
+        return terms;
+    }
+
+    static List<String> termsOfWord(String word) {
+        if (!isHangul(word.charAt(0)) || word.length() == 1) {
+            return List.of(word);
+        }
+        List<String> bigrams = new ArrayList<>(word.length() - 1);
+        for (int i = 0; i < word.length() - 1; i++) {
+            bigrams.add(word.substring(i, i + 2));
+        }
+        return bigrams;
+    }
+
+    static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+
+    private static void flush(StringBuilder current, List<String> words) {
+        if (!current.isEmpty()) {
+            words.add(current.toString());
+            current.setLength(0);
+        }
+    }
+}
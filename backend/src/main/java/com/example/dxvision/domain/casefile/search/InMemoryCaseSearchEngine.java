@@ -0,0 +1,216 @@
+package com.example.dxvision.domain.casefile.search;
+
+import com.example.dxvision.domain.casefile.Modality;
+import com.example.dxvision.domain.casefile.Species;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process inverted index over title, description and expert explanations.
+ * - term -> (caseId -> field-boosted term frequency), kept in a TreeMap for prefix scans.
+ * - every query word must match (AND); scores are summed tf-idf with field boosts.
+ * Sized for a catalogue that fits comfortably in heap (tens of thousands of cases).
+ */
+@Component
+public class InMemoryCaseSearchEngine implements CaseSearchEngine {
+    private static final float TITLE_BOOST = 3.0f;
+    private static final float DESCRIPTION_BOOST = 1.0f;
+    private static final float EXPLANATION_BOOST = 0.5f;
+    private static final double PREFIX_MATCH_WEIGHT = 0.6;
+    private static final int MAX_PREFIX_EXPANSION = 64;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final Map<Long, IndexedDocument> documents = new HashMap<>();
+
+    @Override
+    public void index(CaseSearchDocument document) {
+        if (document == null || document.caseId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            indexInternal(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long caseId) {
+        if (caseId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(caseId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void rebuild(Collection<CaseSearchDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            this.documents.clear();
+            for (CaseSearchDocument document : documents) {
+                indexInternal(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<CaseSearchHit> search(String query, Modality modality, Species species, int limit) {
+        List<String> words = CaseTextTokenizer.words(query);
+        if (words.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (String word : words) {
+                Map<Long, Double> clause = matchWord(word);
+                scores = scores == null ? clause : intersect(scores, clause);
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+            return scores.entrySet().stream()
+                    .filter(e -> matchesFilters(documents.get(e.getKey()), modality, species))
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                    .limit(limit)
+                    .map(e -> new CaseSearchHit(e.getKey(), e.getValue()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Hangul words of 2+ chars must match all of their bigrams; Latin words and single Hangul
+     * characters match any indexed term they prefix (exact matches score higher).
+     */
+    private Map<Long, Double> matchWord(String word) {
+        if (CaseTextTokenizer.isHangul(word.charAt(0)) && word.length() > 1) {
+            Map<Long, Double> scores = null;
+            for (String bigram : CaseTextTokenizer.termsOfWord(word)) {
+                Map<Long, Double> termScores = new HashMap<>();
+                addTermScores(bigram, 1.0, termScores);
+                scores = scores == null ? termScores : intersect(scores, termScores);
+                if (scores.isEmpty()) {
+                    break;
+                }
+            }
+            return scores;
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        NavigableMap<String, Map<Long, Float>> candidates =
+                postings.subMap(word, true, word + Character.MAX_VALUE, false);
+        int expanded = 0;
+        for (String term : candidates.keySet()) {
+            if (expanded++ >= MAX_PREFIX_EXPANSION) {
+                break;
+            }
+            addTermScores(term, term.equals(word) ? 1.0 : PREFIX_MATCH_WEIGHT, scores);
+        }
+        return scores;
+    }
+
+    private void addTermScores(String term, double matchWeight, Map<Long, Double> scores) {
+        Map<Long, Float> posting = postings.get(term);
+        if (posting == null || posting.isEmpty()) {
+            return;
+        }
+        double idf = Math.log(1.0 + (double) documents.size() / posting.size());
+        for (Map.Entry<Long, Float> entry : posting.entrySet()) {
+            double score = matchWeight * idf * Math.sqrt(entry.getValue());
+            // 같은 문서가 여러 prefix 확장에 걸리면 가장 좋은 매치만 반영
+            scores.merge(entry.getKey(), score, Math::max);
+        }
+    }
+
+    private static Map<Long, Double> intersect(Map<Long, Double> left, Map<Long, Double> right) {
+        Map<Long, Double> result = new HashMap<>();
+        for (Map.Entry<Long, Double> entry : left.entrySet()) {
+            Double other = right.get(entry.getKey());
+            if (other != null) {
+                result.put(entry.getKey(), entry.getValue() + other);
+            }
+        }
+        return result;
+    }
+
+    private static boolean matchesFilters(IndexedDocument document, Modality modality, Species species) {
+        return document != null
+                && (modality == null || document.modality() == modality)
+                && (species == null || document.species() == species);
+    }
+
+    private void indexInternal(CaseSearchDocument document) {
+        removeInternal(document.caseId());
+
+        Map<String, Float> weights = new HashMap<>();
+        addField(weights, document.title(), TITLE_BOOST);
+        addField(weights, document.description(), DESCRIPTION_BOOST);
+        addField(weights, document.expertFindingExplanation(), EXPLANATION_BOOST);
+        addField(weights, document.expertDiagnosisExplanation(), EXPLANATION_BOOST);
+        addField(weights, document.expertLocationExplanation(), EXPLANATION_BOOST);
+
+        for (Map.Entry<String, Float> entry : weights.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), k -> new HashMap<>()).put(document.caseId(), entry.getValue());
+        }
+        documents.put(document.caseId(), new IndexedDocument(
+                document.modality(),
+                document.species(),
+                Set.copyOf(weights.keySet())
+        ));
+    }
+
+    private void removeInternal(Long caseId) {
+        IndexedDocument previous = documents.remove(caseId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.terms()) {
+            Map<Long, Float> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(caseId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static void addField(Map<String, Float> weights, String text, float boost) {
+        for (String term : CaseTextTokenizer.terms(text)) {
+            weights.merge(term, boost, Float::sum);
+        }
+    }
+
+    private record IndexedDocument(Modality modality, Species species, Set<String> terms) {
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.dxvision.domain.casefile.service;
+
+import com.example.dxvision.domain.casefile.DerivativeStatus;
+import com.example.dxvision.domain.casefile.ImageCase;
+import com.example.dxvision.domain.casefile.event.CaseImageStoredEvent;
+import com.example.dxvision.domain.repository.CaseImageRow;
+import com.example.dxvision.domain.repository.ImageCaseRepository;
+import com.example.dxvision.global.storage.FileStorageService;
+import com.example.dxvision.global.storage.ImageDerivativeGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Generates the resized renditions of case images off the request thread. Jobs run on a small bounded
+ * pool; when it is full the case simply stays PENDING and the periodic sweep (which also covers rows
+ * created before the pipeline and jobs lost on restart) submits it again later. The outcome is written
+ * back to the case only if its image has not been replaced in the meantime. Deduplicated uploads share
+ * one source file and its output paths, so at most one job runs per source; a case whose submit loses
+ * that race stays PENDING and the sweep completes it cheaply once the shared derivatives exist.
+ */
+@Service
+public class CaseImageDerivativeService {
+    private static final Logger log = LoggerFactory.getLogger(CaseImageDerivativeService.class);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final ImageCaseRepository imageCaseRepository;
+    private final FileStorageService fileStorageService;
+    private final ImageDerivativeGenerator generator;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    // 케이스가 아닌 원본 경로 단위: 같은 blob 을 공유하는 케이스들이 같은 출력 파일을 동시에 쓰지 않도록
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final int sweepBatchSize;
+    private final Timer readyTimer;
+    private final Timer failedTimer;
+    private final Counter rejectedCounter;
+
+    public CaseImageDerivativeService(
+            ImageCaseRepository imageCaseRepository,
+            FileStorageService fileStorageService,
+            ImageDerivativeGenerator generator,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.image.derivatives.threads:2}") int threads,
+            @Value("${app.image.derivatives.queue-capacity:64}") int queueCapacity,
+            @Value("${app.image.derivatives.sweep-batch-size:100}") int sweepBatchSize
+    ) {
+        this.imageCaseRepository = imageCaseRepository;
+        this.fileStorageService = fileStorageService;
+        this.generator = generator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sweepBatchSize = sweepBatchSize;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-derivative-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.readyTimer = Timer.builder("dxvision.image.derivatives")
+                .tag("outcome", "ready")
+                .description("Time spent generating case image renditions")
+                .register(meterRegistry);
+        this.failedTimer = Timer.builder("dxvision.image.derivatives")
+                .tag("outcome", "failed")
+                .description("Time spent generating case image renditions")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("dxvision.image.derivatives.rejected")
+                .description("Rendition jobs deferred to the sweep because the pool was full")
+                .register(meterRegistry);
+        Gauge.builder("dxvision.image.derivatives.queue.depth", executor, e -> e.getQueue().size())
+                .description("Rendition jobs waiting for a worker")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImageStored(CaseImageStoredEvent event) {
+        submit(event.caseId(), event.imageUrl());
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.image.derivatives.sweep-interval-ms:60000}",
+            fixedDelayString = "${app.image.derivatives.sweep-interval-ms:60000}"
+    )
+    public void sweepPending() {
+        for (CaseImageRow row : imageCaseRepository.findPendingDerivatives(Limit.of(sweepBatchSize))) {
+            if (!submit(row.caseId(), row.imageUrl()) && executor.getQueue().remainingCapacity() == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Marks the case PENDING again and queues it; used to retry FAILED cases.
+     */
+    public void regenerate(Long caseId) {
+        String imageUrl = imageCaseRepository.findById(caseId)
+                .map(ImageCase::getImageUrl)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Case not found"));
+        transactionTemplate.executeWithoutResult(status ->
+                imageCaseRepository.updateDerivativeStatus(caseId, imageUrl, DerivativeStatus.PENDING, null));
+        submit(caseId, imageUrl);
+    }
+
+    /**
+     * @return false when the case is already queued/running or the pool is full
+     */
+    boolean submit(Long caseId, String imageUrl) {
+        String key = fileStorageService.resolveLocal(imageUrl).map(Path::toString).orElse(imageUrl);
+        if (!inFlight.add(key)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    process(caseId, imageUrl);
+                } catch (RuntimeException | Error ex) {
+                    log.warn("Rendition job for case {} failed unexpectedly", caseId, ex);
+                } finally {
+                    inFlight.remove(key);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException ex) {
+            inFlight.remove(key);
+            rejectedCounter.increment();
+            return false;
+        }
+    }
+
+    /**
+     * Generates the renditions synchronously and records the outcome.
+     */
+    public DerivativeStatus process(Long caseId, String imageUrl) {
+        Optional<Path> source = fileStorageService.resolveLocal(imageUrl);
+        DerivativeStatus status;
+        String error = null;
+        if (source.isEmpty()) {
+            status = DerivativeStatus.SKIPPED;
+        } else {
+            long startedAt = System.nanoTime();
+            try {
+                generator.generate(source.get());
+                status = DerivativeStatus.READY;
+                readyTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            } catch (IOException | RuntimeException | Error ex) {
+                // OutOfMemoryError 등도 FAILED 로 남겨야 스윕이 같은 이미지를 반복 제출하지 않음
+                status = DerivativeStatus.FAILED;
+                error = truncate(ex.getMessage() == null ? ex.getClass().getSimpleName() : ex.getMessage());
+                failedTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                log.warn("Could not generate renditions for case {} ({}): {}", caseId, imageUrl, error);
+            }
+        }
+        DerivativeStatus outcome = status;
+        String message = error;
+        transactionTemplate.executeWithoutResult(tx ->
+                imageCaseRepository.updateDerivativeStatus(caseId, imageUrl, outcome, message));
+        return outcome;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.dxvision.domain.casefile.service;
+
+import com.example.dxvision.domain.repository.ImageCaseRepository;
+import com.example.dxvision.global.storage.StoredFileReferences;
+import org.springframework.stereotype.Component;
+
+/**
+ * Case images are the only uploads today; a blob is in use while any case row (deleted or not) points at it.
+ */
+@Component
+public class CaseImageReferences implements StoredFileReferences {
+    private final ImageCaseRepository imageCaseRepository;
+
+    public CaseImageReferences(ImageCaseRepository imageCaseRepository) {
+        this.imageCaseRepository = imageCaseRepository;
+    }
+
+    @Override
+    public boolean isReferenced(String url) {
+        return imageCaseRepository.countByImageUrlIncludingDeleted(url) > 0;
+    }
+}
@@ -3,49 +3,98 @@ package com.example.dxvision.domain.casefile.service;
 import com.example.dxvision.domain.casefile.ImageCase;
 import com.example.dxvision.domain.repository.ImageCaseRepository;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.ThreadLocalRandom;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class CaseQueryService {
+    private static final int MAX_DRAW_ATTEMPTS = 3;
+    private static final int MAX_REJECTION_SAMPLES = 8;
+
     private final ImageCaseRepository imageCaseRepository;
+    private final LiveCaseIdIndex liveCaseIdIndex;
 
-    public CaseQueryService(ImageCaseRepository imageCaseRepository) {
+    public CaseQueryService(ImageCaseRepository imageCaseRepository, LiveCaseIdIndex liveCaseIdIndex) {
         this.imageCaseRepository = imageCaseRepository;
+        this.liveCaseIdIndex = liveCaseIdIndex;
     }
 
     /**
-     * MVP-scale random selection using count + random page index to avoid ORDER BY RAND().
-     * If total rows exceed Integer.MAX_VALUE, we cap the page index within int range.
+     * Draws a random id from the in-memory live id index and loads it by primary key,
+     * so the hot path is a single indexed lookup instead of count + OFFSET scan.
+     * Stale ids are evicted on miss; when the index is empty or keeps missing it is
+     * rebuilt from the DB once before giving up.
      */
     @Transactional(readOnly = true)
     public Optional<ImageCase> findRandomCase() {
-        long total = imageCaseRepository.count();
-        if (total == 0) {
-            return Optional.empty();
+        Optional<ImageCase> drawn = drawFromIndex();
+        if (drawn.isPresent()) {
+            return drawn;
         }
-        int pageBound = (int) Math.min(total, Integer.MAX_VALUE);
-
-        for (int attempt = 0; attempt < 3; attempt++) {
-            int randomPageIndex = ThreadLocalRandom.current().nextInt(pageBound);
-            Optional<Long> caseId = imageCaseRepository.findAll(
-                            PageRequest.of(randomPageIndex, 1, Sort.by("id").ascending()))
-                    .stream()
-                    .findFirst()
-                    .map(ImageCase::getId);
-            if (caseId.isPresent()) {
-                return imageCaseRepository.findWithOptionsById(caseId.get());
+        liveCaseIdIndex.rebuild();
+        return drawFromIndex();
+    }
+
+    /**
+     * Filtered draw by rejection sampling: ids drawn uniformly from the live id index are checked
+     * against the filter by primary key, so an accepted id is a uniform pick among the matches and
+     * costs about 1 / (match ratio) point lookups. Selective filters that reject every sample fall
+     * back to count + OFFSET, which is also uniform but reads O(matches) rows.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ImageCase> findRandomCase(Specification<ImageCase> filter) {
+        for (int sample = 0; sample < MAX_REJECTION_SAMPLES; sample++) {
+            OptionalLong candidate = liveCaseIdIndex.randomId();
+            if (candidate.isEmpty()) {
+                break;
+            }
+            long caseId = candidate.getAsLong();
+            if (!imageCaseRepository.exists(filter.and(CaseSpecifications.idEquals(caseId)))) {
+                continue;
             }
+            Optional<ImageCase> drawn = imageCaseRepository.findWithOptionsById(caseId);
+            if (drawn.isPresent()) {
+                return drawn;
+            }
+            liveCaseIdIndex.recordMiss(caseId);
         }
+        return drawByOffset(filter);
+    }
 
-        return imageCaseRepository.findAll(PageRequest.of(0, 1, Sort.by("id").ascending()))
-                .stream()
-                .findFirst()
-                .map(ImageCase::getId)
-                .flatMap(imageCaseRepository::findWithOptionsById);
+    private Optional<ImageCase> drawByOffset(Specification<ImageCase> filter) {
+        for (int attempt = 0; attempt < MAX_DRAW_ATTEMPTS; attempt++) {
+            long matches = imageCaseRepository.count(filter);
+            if (matches == 0) {
+                return Optional.empty();
+            }
+            // 조회 사이에 삭제된 경우에만 다시 뽑음
+            Optional<ImageCase> drawn = imageCaseRepository
+                    .findMatchingIdAt(filter, ThreadLocalRandom.current().nextLong(matches))
+                    .flatMap(imageCaseRepository::findWithOptionsById);
+            if (drawn.isPresent()) {
+                return drawn;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<ImageCase> drawFromIndex() {
+        for (int attempt = 0; attempt < MAX_DRAW_ATTEMPTS; attempt++) {
+            OptionalLong candidate = liveCaseIdIndex.randomId();
+            if (candidate.isEmpty()) {
+                return Optional.empty();
+            }
+            long caseId = candidate.getAsLong();
+            Optional<ImageCase> found = imageCaseRepository.findWithOptionsById(caseId);
+            if (found.isPresent()) {
+                liveCaseIdIndex.recordHit();
+                return found;
+            }
+            liveCaseIdIndex.recordMiss(caseId);
+        }
+        return Optional.empty();
     }
 }
@@ -0,0 +1,10 @@
+package com.example.dxvision.domain.casefile.service;
+
+/**
+ * Validator for a case detail response: the strong ETag combines the case's domain version and
+ * last change with rendition readiness and the option taxonomy version (folder trees are embedded in
+ * the response). No Last-Modified is sent since the taxonomy and renditions carry no timestamp, so a
+ * date-only revalidation could get a stale 304.
+ */
+public record CaseRevision(String etag) {
+}
@@ -2,58 +2,107 @@ package com.example.dxvision.domain.casefile.service;
 
 import com.example.dxvision.domain.casefile.CaseDiagnosis;
 import com.example.dxvision.domain.casefile.CaseFinding;
+import com.example.dxvision.domain.casefile.DerivativeStatus;
 import com.example.dxvision.domain.casefile.ImageCase;
+import com.example.dxvision.domain.casefile.Modality;
+import com.example.dxvision.domain.casefile.Species;
+import com.example.dxvision.domain.casefile.dto.CaseCursor;
 import com.example.dxvision.domain.casefile.dto.CaseOptionDto;
+import com.example.dxvision.domain.casefile.dto.CaseImageRenditions;
 import com.example.dxvision.domain.casefile.dto.CaseListItemResponse;
 import com.example.dxvision.domain.casefile.dto.CaseListPageResponse;
 import com.example.dxvision.domain.casefile.dto.CaseSearchRequest;
+import com.example.dxvision.domain.casefile.dto.CursorPageResponse;
 import com.example.dxvision.domain.casefile.dto.DiagnosisOptionDto;
 import com.example.dxvision.domain.casefile.dto.FindingOptionDto;
 import com.example.dxvision.domain.casefile.dto.OptionFolderResponse;
+import com.example.dxvision.domain.casefile.dto.RandomCaseRequest;
 import com.example.dxvision.domain.casefile.OptionType;
-import com.example.dxvision.domain.casefile.service.OptionFolderService;
-import com.example.dxvision.domain.progress.UserCaseProgress;
+import com.example.dxvision.domain.casefile.search.CaseSearchEngine;
+import com.example.dxvision.domain.casefile.search.CaseSearchHit;
 import com.example.dxvision.domain.progress.UserCaseStatus;
-import com.example.dxvision.domain.repository.UserCaseProgressRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
+import com.example.dxvision.domain.repository.ImageCaseProgressRow;
 import com.example.dxvision.domain.repository.ImageCaseRepository;
+import com.example.dxvision.domain.repository.ImageCaseRevisionRow;
 import com.example.dxvision.global.security.CurrentUserProvider;
 
 @Service
 public class CaseService {
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final CaseQueryService caseQueryService;
     private final ImageCaseRepository imageCaseRepository;
-    private final UserCaseProgressRepository userCaseProgressRepository;
     private final CurrentUserProvider currentUserProvider;
-    private final OptionFolderService optionFolderService;
+    private final OptionTaxonomyCache optionTaxonomyCache;
+    private final CaseSearchEngine caseSearchEngine;
+    private final int maxSearchCandidates;
 
     public CaseService(CaseQueryService caseQueryService,
                        ImageCaseRepository imageCaseRepository,
-                       UserCaseProgressRepository userCaseProgressRepository,
                        CurrentUserProvider currentUserProvider,
-                       OptionFolderService optionFolderService) {
+                       OptionTaxonomyCache optionTaxonomyCache,
+                       CaseSearchEngine caseSearchEngine,
+                       @Value("${app.search.max-candidates:500}") int maxSearchCandidates) {
         this.caseQueryService = caseQueryService;
         this.imageCaseRepository = imageCaseRepository;
-        this.userCaseProgressRepository = userCaseProgressRepository;
         this.currentUserProvider = currentUserProvider;
-        this.optionFolderService = optionFolderService;
+        this.optionTaxonomyCache = optionTaxonomyCache;
+        this.caseSearchEngine = caseSearchEngine;
+        this.maxSearchCandidates = maxSearchCandidates;
     }
 
     @Transactional(readOnly = true)
-    public CaseOptionDto getRandomCase() {
-        ImageCase imageCase = caseQueryService.findRandomCase()
+    public CaseOptionDto getRandomCase(RandomCaseRequest request) {
+        ImageCase imageCase = (request.hasFilters()
+                ? caseQueryService.findRandomCase(randomCaseSpecification(request))
+                : caseQueryService.findRandomCase())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "No cases available"));
 
         return buildCaseOptionDto(imageCase);
     }
 
+    private Specification<ImageCase> randomCaseSpecification(RandomCaseRequest request) {
+        Specification<ImageCase> specification = CaseSpecifications.filter(request.modality(), request.species());
+        if (request.requiresUser()) {
+            Long userId = currentUserProvider.getCurrentUserId();
+            specification = specification.and(CaseSpecifications.progressStatus(userId, request.status()));
+            if (request.excludeSolved()) {
+                specification = specification.and(CaseSpecifications.notSolved(userId));
+            }
+        }
+        return specification;
+    }
+
+    /**
+     * One scalar query; lets the controller answer If-None-Match before the case and its options
+     * are loaded.
+     */
+    @Transactional(readOnly = true)
+    public CaseRevision getCaseRevision(Long caseId) {
+        ImageCaseRevisionRow row = imageCaseRepository.findRevisionById(caseId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Case not found"));
+        // 렌디션 생성 완료도 응답(renditions)을 바꾸므로 ETag 에 포함
+        String etag = "v" + row.version()
+                + "." + row.updatedAt().toEpochMilli()
+                + "." + (row.derivativeStatus() == DerivativeStatus.READY ? "r" : "o")
+                + "." + optionTaxonomyCache.snapshot().version();
+        return new CaseRevision(etag);
+    }
+
     @Transactional(readOnly = true)
     public CaseOptionDto getCaseById(Long caseId) {
         ImageCase imageCase = imageCaseRepository.findWithOptionsById(caseId)
@@ -80,14 +129,10 @@ public class CaseService {
                 .map(cd -> cd.getDiagnosis().getId())
                 .collect(Collectors.toSet());
 
-        List<OptionFolderResponse> findingFolders = optionFolderService.listFoldersWithItems(
-                OptionType.FINDING,
-                findingIds
-        );
-        List<OptionFolderResponse> diagnosisFolders = optionFolderService.listFoldersWithItems(
-                OptionType.DIAGNOSIS,
-                diagnosisIds
-        );
+        // 폴더 트리는 메모리 스냅샷에서 케이스 항목만 투영
+        OptionTaxonomy taxonomy = optionTaxonomyCache.snapshot();
+        List<OptionFolderResponse> findingFolders = taxonomy.folders(OptionType.FINDING, findingIds);
+        List<OptionFolderResponse> diagnosisFolders = taxonomy.folders(OptionType.DIAGNOSIS, diagnosisIds);
 
         return new CaseOptionDto(
                 imageCase.getId(),
@@ -97,6 +142,7 @@ public class CaseService {
                 imageCase.getModality(),
                 imageCase.getSpecies(),
                 imageCase.getImageUrl(),
+                CaseImageRenditions.of(imageCase.getImageUrl(), imageCase.getDerivativeStatus()),
                 imageCase.getLesionShapeType(),
                 findingOptions,
                 diagnosisOptions,
@@ -107,61 +153,29 @@ public class CaseService {
 
     @Transactional(readOnly = true)
     public CaseListPageResponse<CaseListItemResponse> searchCases(CaseSearchRequest request) {
-        Long userId = currentUserProvider.getCurrentUser().getId();
-
-        Set<Long> includeIds = null;
-        Set<Long> excludeIds = null;
-
-        if (request.status() != null) {
-            if (request.status().isUnseen()) {
-                List<Long> progressedIds = userCaseProgressRepository.findCaseIdsByUserIdAndStatus(userId, null);
-                excludeIds = Set.copyOf(progressedIds);
-            } else {
-                List<Long> idsByStatus = userCaseProgressRepository.findCaseIdsByUserIdAndStatus(userId, request.status());
-                includeIds = Set.copyOf(idsByStatus);
-                if (includeIds.isEmpty()) {
-                    return new CaseListPageResponse<>(
-                            List.of(),
-                            request.page(),
-                            request.size(),
-                            0,
-                            0
-                    );
-                }
+        Long userId = currentUserProvider.getCurrentUserId();
+
+        Specification<ImageCase> specification = CaseSpecifications.filter(request.modality(), request.species());
+        boolean truncated = false;
+        if (request.keyword() != null) {
+            SearchCandidates candidates = searchCandidates(request);
+            specification = specification.and(CaseSpecifications.idIn(candidates.ids()));
+            if (request.sort().isUnsorted()) {
+                return rankedPage(specification, userId, request, candidates);
             }
+            truncated = candidates.truncated();
         }
 
-        var specification = CaseSpecifications.filter(
-                request.modality(),
-                request.species(),
-                request.keyword(),
-                includeIds,
-                excludeIds
+        // 진행 상태 필터/컬럼은 user_case_progress LEFT JOIN 한 번으로 처리
+        var page = imageCaseRepository.findWithProgress(
+                specification,
+                userId,
+                request.status(),
+                request.pageRequest()
         );
 
-        var page = imageCaseRepository.findAll(specification, request.pageRequest());
-        List<Long> caseIds = page.getContent().stream().map(ImageCase::getId).toList();
-
-        Map<Long, UserCaseProgress> progressMap = caseIds.isEmpty()
-                ? Map.of()
-                : userCaseProgressRepository.findByUserIdAndCaseIds(userId, caseIds).stream()
-                .collect(Collectors.toMap(p -> p.getImageCase().getId(), p -> p));
-
         List<CaseListItemResponse> content = page.getContent().stream()
-                .map(ic -> {
-                    UserCaseProgress progress = progressMap.get(ic.getId());
-                    UserCaseStatus status = UserCaseStatus.normalize(progress == null ? null : progress.getStatus());
-                    return new CaseListItemResponse(
-                            ic.getId(),
-                            ic.getTitle(),
-                            ic.getModality(),
-                            ic.getSpecies(),
-                            ic.getUpdatedAt(),
-                            status,
-                            progress == null ? null : progress.getLastAttemptAt(),
-                            progress == null ? null : progress.getLastScore()
-                    );
-                })
+                .map(this::toListItem)
                 .toList();
 
         return new CaseListPageResponse<>(
@@ -169,7 +183,136 @@ public class CaseService {
                 page.getNumber(),
                 page.getSize(),
                 page.getTotalElements(),
-                page.getTotalPages()
+                page.getTotalPages(),
+                truncated
+        );
+    }
+
+    /**
+     * Keyset variant of {@link #searchCases}: ordered by (updatedAt desc, id desc), resumes after the cursor
+     * and fetches size + 1 rows to derive hasNext, so no count query is issued.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CaseListItemResponse> scrollCases(CaseSearchRequest request, CaseCursor cursor) {
+        Long userId = currentUserProvider.getCurrentUserId();
+        int size = Math.min(request.size(), MAX_SCROLL_SIZE);
+
+        Specification<ImageCase> specification = CaseSpecifications.filter(request.modality(), request.species());
+        boolean truncated = false;
+        if (request.keyword() != null) {
+            SearchCandidates candidates = searchCandidates(request);
+            specification = specification.and(CaseSpecifications.idIn(candidates.ids()));
+            truncated = candidates.truncated();
+        }
+        if (cursor != null) {
+            specification = specification.and(CaseSpecifications.updatedBefore(cursor.updatedAt(), cursor.id()));
+        }
+
+        List<ImageCaseProgressRow> rows = imageCaseRepository.findWithProgress(
+                specification,
+                userId,
+                request.status(),
+                Sort.by(Sort.Order.desc("updatedAt"), Sort.Order.desc("id")),
+                size + 1
+        );
+
+        boolean hasNext = rows.size() > size;
+        List<ImageCaseProgressRow> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            ImageCaseProgressRow last = pageRows.getLast();
+            nextCursor = new CaseCursor(last.updatedAt(), last.caseId()).encode();
+        }
+
+        return new CursorPageResponse<>(
+                pageRows.stream().map(this::toListItem).toList(),
+                size,
+                nextCursor,
+                hasNext,
+                truncated
+        );
+    }
+
+    /**
+     * Relevance-ordered page for keyword searches without an explicit sort: one query applies
+     * filters/progress to the capped candidate set and rows are ordered by engine rank.
+     */
+    private CaseListPageResponse<CaseListItemResponse> rankedPage(
+            Specification<ImageCase> specification,
+            Long userId,
+            CaseSearchRequest request,
+            SearchCandidates candidates
+    ) {
+        List<Long> rankedIds = candidates.ids();
+        if (rankedIds.isEmpty()) {
+            return new CaseListPageResponse<>(List.of(), request.page(), request.size(), 0, 0);
+        }
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < rankedIds.size(); i++) {
+            rank.put(rankedIds.get(i), i);
+        }
+        List<ImageCaseProgressRow> rows = new ArrayList<>(imageCaseRepository.findWithProgress(
+                specification,
+                userId,
+                request.status(),
+                Sort.unsorted(),
+                rankedIds.size()
+        ));
+        rows.sort(Comparator.comparingInt(row -> rank.get(row.caseId())));
+
+        int from = (int) Math.min((long) request.page() * request.size(), rows.size());
+        int to = Math.min(from + request.size(), rows.size());
+        List<CaseListItemResponse> content = rows.subList(from, to).stream()
+                .map(this::toListItem)
+                .toList();
+        int totalPages = (rows.size() + request.size() - 1) / request.size();
+        return new CaseListPageResponse<>(
+                content, request.page(), request.size(), rows.size(), totalPages, candidates.truncated());
+    }
+
+    /**
+     * Best {@code app.search.max-candidates} hits for the keyword. Every keyword path is capped so the
+     * id IN list stays bounded; one extra hit is requested to tell the caller whether matches were cut.
+     */
+    private SearchCandidates searchCandidates(CaseSearchRequest request) {
+        List<Long> ids = caseSearchEngine.search(
+                        request.keyword(),
+                        parseEnum(Modality.class, request.modality()),
+                        parseEnum(Species.class, request.species()),
+                        maxSearchCandidates + 1
+                ).stream()
+                .map(CaseSearchHit::caseId)
+                .toList();
+        boolean truncated = ids.size() > maxSearchCandidates;
+        return new SearchCandidates(truncated ? ids.subList(0, maxSearchCandidates) : ids, truncated);
+    }
+
+    private record SearchCandidates(List<Long> ids, boolean truncated) {
+    }
+
+    // 잘못된 값은 null(=엔진 필터 없음)로 두고 DB spec 에서 빈 결과 처리
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String raw) {
+        if (raw == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, raw.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private CaseListItemResponse toListItem(ImageCaseProgressRow row) {
+        return new CaseListItemResponse(
+                row.caseId(),
+                row.title(),
+                row.modality(),
+                row.species(),
+                CaseImageRenditions.thumbnailUrl(row.imageUrl(), row.derivativeStatus()),
+                row.updatedAt(),
+                UserCaseStatus.normalize(row.status()),
+                row.lastAttemptAt(),
+                row.lastScore()
         );
     }
 }
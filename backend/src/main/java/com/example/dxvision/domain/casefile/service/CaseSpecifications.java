@@ -3,8 +3,17 @@ package com.example.dxvision.domain.casefile.service;
 import com.example.dxvision.domain.casefile.ImageCase;
 import com.example.dxvision.domain.casefile.Modality;
 import com.example.dxvision.domain.casefile.Species;
+import com.example.dxvision.domain.progress.UserCaseProgress;
+import com.example.dxvision.domain.progress.UserCaseStatus;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 import org.springframework.data.jpa.domain.Specification;
@@ -16,10 +25,7 @@ public final class CaseSpecifications {
 
     public static Specification<ImageCase> filter(
             String modality,
-            String species,
-            String keyword,
-            Set<Long> includeIds,
-            Set<Long> excludeIds
+            String species
     ) {
         return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
@@ -42,25 +48,77 @@ public final class CaseSpecifications {
                 }
             }
 
-            if (StringUtils.hasText(keyword)) {
-                String pattern = "%" + keyword.toLowerCase() + "%";
-                predicates.add(
-                        cb.or(
-                                cb.like(cb.lower(root.get("title")), pattern),
-                                cb.like(cb.lower(root.get("description")), pattern)
-                        )
-                );
-            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
 
-            if (includeIds != null && !includeIds.isEmpty()) {
-                predicates.add(root.get("id").in(includeIds));
-            }
+    /**
+     * Restricts to ids returned by {@link com.example.dxvision.domain.casefile.search.CaseSearchEngine};
+     * callers cap the candidate list at app.search.max-candidates so the IN list stays bounded.
+     */
+    public static Specification<ImageCase> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> ids.isEmpty() ? cb.disjunction() : root.get("id").in(ids);
+    }
 
-            if (excludeIds != null && !excludeIds.isEmpty()) {
-                predicates.add(cb.not(root.get("id").in(excludeIds)));
-            }
+    public static Specification<ImageCase> idEquals(Long id) {
+        return (root, query, cb) -> cb.equal(root.get("id"), id);
+    }
 
-            return cb.and(predicates.toArray(new Predicate[0]));
+    /**
+     * Status filter as a correlated subquery on user_case_progress so the DB resolves it
+     * with the (user_id, image_case_id) unique index instead of a materialised id list.
+     * UNSEEN means "no progress row"; any other status matches the stored status.
+     */
+    public static Specification<ImageCase> progressStatus(Long userId, UserCaseStatus status) {
+        return (root, query, cb) -> {
+            if (status == null) {
+                return cb.conjunction();
+            }
+            if (status.isUnseen()) {
+                return cb.not(cb.exists(progressSubquery(root, query, cb, userId, null)));
+            }
+            return cb.exists(progressSubquery(root, query, cb, userId, EnumSet.of(status)));
         };
     }
+
+    public static Specification<ImageCase> notSolved(Long userId) {
+        return (root, query, cb) -> cb.not(cb.exists(progressSubquery(
+                root,
+                query,
+                cb,
+                userId,
+                EnumSet.of(UserCaseStatus.CORRECT, UserCaseStatus.REATTEMPT_CORRECT)
+        )));
+    }
+
+    /**
+     * Keyset predicate for (updatedAt desc, id desc) ordering.
+     */
+    public static Specification<ImageCase> updatedBefore(Instant updatedAt, Long id) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("updatedAt"), updatedAt),
+                cb.and(
+                        cb.equal(root.get("updatedAt"), updatedAt),
+                        cb.lessThan(root.get("id"), id)
+                )
+        );
+    }
+
+    private static Subquery<Long> progressSubquery(
+            Root<ImageCase> root,
+            CriteriaQuery<?> query,
+            CriteriaBuilder cb,
+            Long userId,
+            Set<UserCaseStatus> statuses
+    ) {
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<UserCaseProgress> progress = subquery.from(UserCaseProgress.class);
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(progress.get("imageCase").get("id"), root.get("id")));
+        predicates.add(cb.equal(progress.get("user").get("id"), userId));
+        if (statuses != null) {
+            predicates.add(progress.get("status").in(statuses));
+        }
+        return subquery.select(progress.get("id")).where(predicates.toArray(new Predicate[0]));
+    }
 }
@@ -0,0 +1,249 @@
+package com.example.dxvision.domain.casefile.service;
+
+import com.example.dxvision.domain.casefile.event.ImageCaseChangedEvent;
+import com.example.dxvision.domain.repository.ImageCaseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory index of live (non soft-deleted) case ids used for O(1) random draws.
+ * - ids are kept in a dense long[]; removal swaps the last element into the hole.
+ * - positions map id -> slot so add/remove stay O(1).
+ * The DB stays the source of truth: misses are evicted on read and the whole index
+ * is periodically reconciled against image_cases. Adds/removes applied while a rebuild
+ * is reading the DB are journaled and replayed onto the new snapshot, so they are not lost.
+ */
+@Component
+public class LiveCaseIdIndex {
+    private static final Logger log = LoggerFactory.getLogger(LiveCaseIdIndex.class);
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final ImageCaseRepository imageCaseRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter rebuildCounter;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int size;
+    private final Map<Long, Integer> positions = new HashMap<>();
+    // 재구성 중에만 non-null: DB 조회와 교체 사이에 들어온 변경 (write lock 으로 보호)
+    private List<Delta> pendingDeltas;
+
+    public LiveCaseIdIndex(ImageCaseRepository imageCaseRepository, MeterRegistry meterRegistry) {
+        this.imageCaseRepository = imageCaseRepository;
+        this.hitCounter = Counter.builder("dxvision.case.random.index")
+                .tag("result", "hit")
+                .description("Random draws resolved by the live case id index")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("dxvision.case.random.index")
+                .tag("result", "miss")
+                .description("Random draws whose id no longer existed in the DB")
+                .register(meterRegistry);
+        this.rebuildCounter = Counter.builder("dxvision.case.random.index.rebuilds")
+                .description("Full rebuilds of the live case id index")
+                .register(meterRegistry);
+        Gauge.builder("dxvision.case.random.index.size", this, LiveCaseIdIndex::size)
+                .description("Number of live case ids held in memory")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * Periodic reconciliation: catches writes that bypassed AdminCaseService and
+     * removals lost to rolled-back transactions.
+     */
+    @Scheduled(
+            initialDelayString = "${app.case-index.reconcile-interval-ms:300000}",
+            fixedDelayString = "${app.case-index.reconcile-interval-ms:300000}"
+    )
+    public void reconcile() {
+        rebuild();
+    }
+
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            startJournal();
+            List<Long> liveIds;
+            try {
+                liveIds = imageCaseRepository.findAllIds();
+            } catch (RuntimeException ex) {
+                // 조회 실패 시 기존 색인을 그대로 두고 기록만 버림
+                swap(null);
+                throw ex;
+            }
+            swap(liveIds);
+            rebuildCounter.increment();
+            log.debug("Live case id index rebuilt with {} ids", liveIds.size());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void startJournal() {
+        lock.writeLock().lock();
+        try {
+            pendingDeltas = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Installs the snapshot and replays the deltas journaled since it was started; replaying one the
+     * snapshot already reflects is harmless since add/remove are idempotent. {@code null} only ends the
+     * journal.
+     */
+    private void swap(List<Long> liveIds) {
+        lock.writeLock().lock();
+        try {
+            List<Delta> deltas = pendingDeltas;
+            pendingDeltas = null;
+            if (liveIds == null) {
+                return;
+            }
+            ids = new long[Math.max(INITIAL_CAPACITY, liveIds.size())];
+            positions.clear();
+            size = 0;
+            for (Long id : liveIds) {
+                addInternal(id);
+            }
+            for (Delta delta : deltas) {
+                if (delta.added()) {
+                    addInternal(delta.id());
+                } else {
+                    removeInternal(delta.id());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onCaseChanged(ImageCaseChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, RESTORED -> add(event.caseId());
+            case DELETED -> remove(event.caseId());
+            case UPDATED -> {
+                // id set unchanged
+            }
+        }
+    }
+
+    public OptionalLong randomId() {
+        lock.readLock().lock();
+        try {
+            if (size == 0) {
+                return OptionalLong.empty();
+            }
+            return OptionalLong.of(ids[ThreadLocalRandom.current().nextInt(size)]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void add(Long id) {
+        if (id == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            addInternal(id);
+            journal(new Delta(id, true));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        if (id == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            journal(new Delta(id, false));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void recordHit() {
+        hitCounter.increment();
+    }
+
+    void recordMiss(long id) {
+        missCounter.increment();
+        remove(id);
+    }
+
+    private void journal(Delta delta) {
+        if (pendingDeltas != null) {
+            pendingDeltas.add(delta);
+        }
+    }
+
+    private void removeInternal(Long id) {
+        Integer slot = positions.remove(id);
+        if (slot == null) {
+            return;
+        }
+        int last = size - 1;
+        if (slot != last) {
+            long moved = ids[last];
+            ids[slot] = moved;
+            positions.put(moved, slot);
+        }
+        size = last;
+    }
+
+    private void addInternal(Long id) {
+        if (positions.containsKey(id)) {
+            return;
+        }
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+        ids[size] = id;
+        positions.put(id, size);
+        size++;
+    }
+
+    private record Delta(long id, boolean added) {
+    }
+}
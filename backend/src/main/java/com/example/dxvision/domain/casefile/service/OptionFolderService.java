@@ -10,19 +10,27 @@ import com.example.dxvision.domain.casefile.dto.OptionFolderItemDto;
 import com.example.dxvision.domain.casefile.dto.OptionFolderReorderRequest;
 import com.example.dxvision.domain.casefile.dto.OptionFolderRequest;
 import com.example.dxvision.domain.casefile.dto.OptionFolderResponse;
+import com.example.dxvision.domain.casefile.event.OptionTaxonomyChangedEvent;
 import com.example.dxvision.domain.repository.DiagnosisFolderRepository;
-import com.example.dxvision.domain.repository.DiagnosisRepository;
 import com.example.dxvision.domain.repository.FindingFolderRepository;
-import com.example.dxvision.domain.repository.FindingRepository;
 import com.example.dxvision.domain.repository.OptionFolderRepository;
-import jakarta.annotation.PostConstruct;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,40 +39,59 @@ import java.util.HashSet;
 
 @Service
 public class OptionFolderService {
+    private static final Logger log = LoggerFactory.getLogger(OptionFolderService.class);
     private static final String DEFAULT_FOLDER_NAME = "Uncategorized";
 
     private final OptionFolderRepository optionFolderRepository;
-    private final FindingRepository findingRepository;
-    private final DiagnosisRepository diagnosisRepository;
     private final FindingFolderRepository findingFolderRepository;
     private final DiagnosisFolderRepository diagnosisFolderRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Timer reconcileTimer;
 
     public OptionFolderService(
             OptionFolderRepository optionFolderRepository,
-            FindingRepository findingRepository,
-            DiagnosisRepository diagnosisRepository,
             FindingFolderRepository findingFolderRepository,
-            DiagnosisFolderRepository diagnosisFolderRepository
+            DiagnosisFolderRepository diagnosisFolderRepository,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry
     ) {
         this.optionFolderRepository = optionFolderRepository;
-        this.findingRepository = findingRepository;
-        this.diagnosisRepository = diagnosisRepository;
         this.findingFolderRepository = findingFolderRepository;
         this.diagnosisFolderRepository = diagnosisFolderRepository;
+        this.eventPublisher = eventPublisher;
+        this.reconcileTimer = Timer.builder("dxvision.taxonomy.defaults.reconcile")
+                .description("Startup reconciliation of items without a folder into the default folders")
+                .register(meterRegistry);
     }
 
-    @PostConstruct
-    public void ensureDefaultsOnBoot() {
-        initializeDefaults();
+    /**
+     * Runs once the app is ready instead of during context refresh, so it no longer delays startup;
+     * the time taken is recorded as {@code dxvision.taxonomy.defaults.reconcile}.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcileDefaultsOnReady() {
+        long startedAt = System.nanoTime();
+        int attached = initializeDefaults();
+        long elapsedNanos = System.nanoTime() - startedAt;
+        reconcileTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        log.info("Default option folders reconciled: {} unassigned items attached in {} ms",
+                attached, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
     }
 
+    /**
+     * Ensures each type has a default folder and moves every item without any folder into it.
+     * Returns the number of items attached.
+     */
     @Transactional
-    public void initializeDefaults() {
+    public int initializeDefaults() {
+        int attached = 0;
         for (OptionType type : OptionType.values()) {
             OptionFolder defaultFolder = optionFolderRepository.findByTypeAndSystemDefaultTrue(type)
                     .orElseGet(() -> createDefaultFolder(type));
-            attachUnassignedItems(defaultFolder);
+            attached += attachUnassignedItems(defaultFolder);
         }
+        return attached;
     }
 
     @Transactional
@@ -76,6 +103,7 @@ public class OptionFolderService {
                 false
         );
         OptionFolder saved = optionFolderRepository.save(folder);
+        eventPublisher.publishEvent(new OptionTaxonomyChangedEvent(saved.getType()));
         return toResponse(saved, List.of());
     }
 
@@ -88,6 +116,7 @@ public class OptionFolderService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Folder type mismatch");
         }
         folder.update(request.name().trim(), request.sortOrder());
+        eventPublisher.publishEvent(new OptionTaxonomyChangedEvent(folder.getType()));
         return toResponse(folder, loadItems(folder, null));
     }
 
@@ -105,6 +134,7 @@ public class OptionFolderService {
 
         moveItemsToFolder(folder, defaultFolder);
         optionFolderRepository.delete(folder);
+        eventPublisher.publishEvent(new OptionTaxonomyChangedEvent(folder.getType()));
     }
 
     @Transactional
@@ -120,17 +150,57 @@ public class OptionFolderService {
                 folder.update(folder.getName(), next);
             }
         }
+        eventPublisher.publishEvent(new OptionTaxonomyChangedEvent(request.type()));
     }
 
+    /**
+     * Builds the folder tree from one fetch-joined mapping query per type, grouped in memory. With
+     * {@code allowedItemIds} only folders holding at least one allowed item are returned; without it,
+     * every folder of the type is listed (one extra query for the empty ones).
+     */
     @Transactional(readOnly = true)
     public List<OptionFolderResponse> listFoldersWithItems(OptionType type, Set<Long> allowedItemIds) {
-        List<OptionFolder> folders = optionFolderRepository.findAllByTypeOrderBySortOrderAsc(type);
+        if (allowedItemIds != null && allowedItemIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, OptionFolder> foldersWithItems = new LinkedHashMap<>();
+        Map<Long, List<OptionFolderItemDto>> itemsByFolder = new HashMap<>();
+        if (type == OptionType.FINDING) {
+            List<FindingFolder> mappings = allowedItemIds == null
+                    ? findingFolderRepository.findOrderedByType(type)
+                    : findingFolderRepository.findOrderedByTypeAndFindingIds(type, allowedItemIds);
+            for (FindingFolder ff : mappings) {
+                foldersWithItems.putIfAbsent(ff.getFolder().getId(), ff.getFolder());
+                itemsByFolder.computeIfAbsent(ff.getFolder().getId(), id -> new ArrayList<>())
+                        .add(new OptionFolderItemDto(
+                                ff.getFinding().getId(),
+                                ff.getFinding().getLabel(),
+                                ff.getFinding().getDescription(),
+                                ff.getSortOrder()
+                        ));
+            }
+        } else {
+            List<DiagnosisFolder> mappings = allowedItemIds == null
+                    ? diagnosisFolderRepository.findOrderedByType(type)
+                    : diagnosisFolderRepository.findOrderedByTypeAndDiagnosisIds(type, allowedItemIds);
+            for (DiagnosisFolder df : mappings) {
+                foldersWithItems.putIfAbsent(df.getFolder().getId(), df.getFolder());
+                itemsByFolder.computeIfAbsent(df.getFolder().getId(), id -> new ArrayList<>())
+                        .add(new OptionFolderItemDto(
+                                df.getDiagnosis().getId(),
+                                df.getDiagnosis().getName(),
+                                df.getDiagnosis().getDescription(),
+                                df.getSortOrder()
+                        ));
+            }
+        }
+
+        Collection<OptionFolder> folders = allowedItemIds == null
+                ? optionFolderRepository.findAllByTypeOrderBySortOrderAsc(type)
+                : foldersWithItems.values();
         List<OptionFolderResponse> responses = new ArrayList<>();
         for (OptionFolder folder : folders) {
-            List<OptionFolderItemDto> items = loadItems(folder, allowedItemIds);
-            if (!items.isEmpty() || allowedItemIds == null) {
-                responses.add(toResponse(folder, items));
-            }
+            responses.add(toResponse(folder, itemsByFolder.getOrDefault(folder.getId(), List.of())));
         }
         return responses;
     }
@@ -162,6 +232,8 @@ public class OptionFolderService {
                 findingFolderRepository.save(mapping);
             }
         }
+        // 라벨/설명 변경도 이 경로를 거침
+        eventPublisher.publishEvent(new OptionTaxonomyChangedEvent(OptionType.FINDING));
     }
 
     @Transactional
@@ -190,6 +262,7 @@ public class OptionFolderService {
                 diagnosisFolderRepository.save(mapping);
             }
         }
+        eventPublisher.publishEvent(new OptionTaxonomyChangedEvent(OptionType.DIAGNOSIS));
     }
 
     private OptionFolder createDefaultFolder(OptionType type) {
@@ -210,24 +283,15 @@ public class OptionFolderService {
         return max + 1;
     }
 
-    private void attachUnassignedItems(OptionFolder defaultFolder) {
-        if (defaultFolder.getType() == OptionType.FINDING) {
-            List<Finding> findings = findingRepository.findAll();
-            for (Finding finding : findings) {
-                boolean hasMapping = findingFolderRepository.existsByFindingId(finding.getId());
-                if (!hasMapping) {
-                    findingFolderRepository.save(new FindingFolder(defaultFolder, finding, 0));
-                }
-            }
-        } else if (defaultFolder.getType() == OptionType.DIAGNOSIS) {
-            List<Diagnosis> diagnoses = diagnosisRepository.findAll();
-            for (Diagnosis diagnosis : diagnoses) {
-                boolean hasMapping = diagnosisFolderRepository.existsByDiagnosisId(diagnosis.getId());
-                if (!hasMapping) {
-                    diagnosisFolderRepository.save(new DiagnosisFolder(defaultFolder, diagnosis, 0));
-                }
-            }
+    // 미배정 항목을 INSERT ... SELECT 한 번으로 기본 폴더에 연결 (항목별 존재 확인/저장 없음)
+    private int attachUnassignedItems(OptionFolder defaultFolder) {
+        int attached = defaultFolder.getType() == OptionType.FINDING
+                ? findingFolderRepository.attachUnassignedFindings(defaultFolder.getId())
+                : diagnosisFolderRepository.attachUnassignedDiagnoses(defaultFolder.getId());
+        if (attached > 0) {
+            eventPublisher.publishEvent(new OptionTaxonomyChangedEvent(defaultFolder.getType()));
         }
+        return attached;
     }
 
     private List<OptionFolderItemDto> loadItems(OptionFolder folder, Set<Long> allowedItemIds) {
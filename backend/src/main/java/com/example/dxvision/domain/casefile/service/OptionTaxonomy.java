@@ -0,0 +1,48 @@
+package com.example.dxvision.domain.casefile.service;
+
+import com.example.dxvision.domain.casefile.OptionType;
+import com.example.dxvision.domain.casefile.dto.OptionFolderItemDto;
+import com.example.dxvision.domain.casefile.dto.OptionFolderResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable {@code OptionType -> folders -> items} tree. {@code version} is a digest of the content,
+ * so it is stable across rebuilds and instances and can be used directly as an ETag.
+ */
+public record OptionTaxonomy(
+        long generation,
+        String version,
+        Map<OptionType, List<OptionFolderResponse>> foldersByType
+) {
+
+    /**
+     * Folders of {@code type}; with {@code allowedItemIds} only the allowed items are kept and
+     * folders left empty are dropped.
+     */
+    public List<OptionFolderResponse> folders(OptionType type, Set<Long> allowedItemIds) {
+        List<OptionFolderResponse> all = foldersByType.getOrDefault(type, List.of());
+        if (allowedItemIds == null) {
+            return all;
+        }
+        List<OptionFolderResponse> projected = new ArrayList<>();
+        for (OptionFolderResponse folder : all) {
+            List<OptionFolderItemDto> items = folder.items().stream()
+                    .filter(item -> allowedItemIds.contains(item.id()))
+                    .toList();
+            if (!items.isEmpty()) {
+                projected.add(new OptionFolderResponse(
+                        folder.id(),
+                        folder.name(),
+                        folder.type(),
+                        folder.sortOrder(),
+                        folder.systemDefault(),
+                        items
+                ));
+            }
+        }
+        return projected;
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.dxvision.domain.casefile.service;
+
+import com.example.dxvision.domain.casefile.OptionType;
+import com.example.dxvision.domain.casefile.dto.OptionFolderResponse;
+import com.example.dxvision.domain.casefile.event.OptionTaxonomyChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Copy-on-write snapshot of the option folder taxonomy. Quiz/case reads project from the current
+ * {@link OptionTaxonomy}; admin writes rebuild and swap it after commit. Until then the writing
+ * transaction reads a private, uninstalled build so it sees its own changes without exposing them.
+ * A generation counter keeps a slow rebuild that started before a commit from installing stale
+ * content. Periodic refresh catches writes made elsewhere. Every installed build reads all types in
+ * one read-only transaction of its own, so a version never mixes trees from different commits.
+ */
+@Component
+public class OptionTaxonomyCache {
+    private static final Logger log = LoggerFactory.getLogger(OptionTaxonomyCache.class);
+
+    // 이 키가 바인딩된 트랜잭션은 아직 커밋되지 않은 분류 변경을 포함
+    private static final Object DIRTY_TRANSACTION_KEY = new Object();
+
+    private final OptionFolderService optionFolderService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate rebuildTransaction;
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicReference<OptionTaxonomy> current = new AtomicReference<>();
+    private final Counter rebuildCounter;
+
+    public OptionTaxonomyCache(
+            OptionFolderService optionFolderService,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.optionFolderService = optionFolderService;
+        this.objectMapper = objectMapper;
+        // 커밋 후 콜백에서도 호출되므로 끝난 트랜잭션에 참여하지 않도록 항상 새 트랜잭션
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+        this.rebuildTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rebuildTransaction.setReadOnly(true);
+        this.rebuildCounter = Counter.builder("dxvision.taxonomy.snapshot.rebuilds")
+                .description("Rebuilds of the in-memory option folder taxonomy")
+                .register(meterRegistry);
+    }
+
+    public OptionTaxonomy snapshot() {
+        if (TransactionSynchronizationManager.hasResource(DIRTY_TRANSACTION_KEY)) {
+            return build(generation.get());
+        }
+        OptionTaxonomy taxonomy = current.get();
+        return taxonomy != null ? taxonomy : rebuild();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.taxonomy.refresh-interval-ms:300000}",
+            fixedDelayString = "${app.taxonomy.refresh-interval-ms:300000}"
+    )
+    public void refresh() {
+        rebuild();
+    }
+
+    public OptionTaxonomy rebuild() {
+        long startedAt = generation.get();
+        OptionTaxonomy built = rebuildTransaction.execute(status -> build(startedAt));
+        // 빌드 중 커밋된 변경이 있었다면 설치하지 않음
+        current.accumulateAndGet(built, (prev, next) -> next.generation() == generation.get() ? next : prev);
+        rebuildCounter.increment();
+        log.debug("Option taxonomy rebuilt: version={}", built.version());
+        return built;
+    }
+
+    private OptionTaxonomy build(long startedAt) {
+        Map<OptionType, List<OptionFolderResponse>> folders = new EnumMap<>(OptionType.class);
+        for (OptionType type : OptionType.values()) {
+            folders.put(type, optionFolderService.listFoldersWithItems(type, null).stream()
+                    .map(OptionTaxonomyCache::freeze)
+                    .toList());
+        }
+        return new OptionTaxonomy(startedAt, digest(folders), Collections.unmodifiableMap(folders));
+    }
+
+    @EventListener
+    public void onTaxonomyChanged(OptionTaxonomyChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(DIRTY_TRANSACTION_KEY)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(DIRTY_TRANSACTION_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(DIRTY_TRANSACTION_KEY);
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaxonomyCommitted(OptionTaxonomyChangedEvent event) {
+        generation.incrementAndGet();
+        rebuild();
+    }
+
+    private static OptionFolderResponse freeze(OptionFolderResponse folder) {
+        return new OptionFolderResponse(
+                folder.id(),
+                folder.name(),
+                folder.type(),
+                folder.sortOrder(),
+                folder.systemDefault(),
+                List.copyOf(folder.items())
+        );
+    }
+
+    private String digest(Map<OptionType, List<OptionFolderResponse>> folders) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(folders));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (JsonProcessingException | NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Failed to fingerprint option taxonomy", ex);
+        }
+    }
+}
@@ -1,23 +1,22 @@
 package com.example.dxvision.domain.dashboard.service;
 
-import com.example.dxvision.domain.auth.User;
-import com.example.dxvision.domain.attempt.Attempt;
 import com.example.dxvision.domain.dashboard.dto.DashboardActivityResponse;
 import com.example.dxvision.domain.dashboard.dto.DashboardCaseItemResponse;
 import com.example.dxvision.domain.dashboard.dto.DashboardSummaryResponse;
 import com.example.dxvision.domain.progress.ProgressRules;
 import com.example.dxvision.domain.progress.UserCaseProgress;
 import com.example.dxvision.domain.progress.UserCaseStatus;
-import com.example.dxvision.domain.repository.AttemptRepository;
+import com.example.dxvision.domain.progress.UserDailyActivity;
+import com.example.dxvision.domain.progress.UserStatsSnapshot;
+import com.example.dxvision.domain.progress.service.UserStatsService;
 import com.example.dxvision.domain.repository.UserCaseProgressRepository;
+import com.example.dxvision.domain.repository.UserDailyActivityRepository;
 import com.example.dxvision.global.security.CurrentUserProvider;
-import java.time.Instant;
 import java.time.LocalDate;
-import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,47 +24,43 @@ import org.springframework.transaction.annotation.Transactional;
 public class DashboardService {
     private final CurrentUserProvider currentUserProvider;
     private final UserCaseProgressRepository userCaseProgressRepository;
-    private final AttemptRepository attemptRepository;
-
-    private static final ZoneId ACTIVITY_ZONE_ID = ZoneId.of("Asia/Seoul");
+    private final UserDailyActivityRepository userDailyActivityRepository;
+    private final UserStatsService userStatsService;
 
     public DashboardService(
             CurrentUserProvider currentUserProvider,
             UserCaseProgressRepository userCaseProgressRepository,
-            AttemptRepository attemptRepository
+            UserDailyActivityRepository userDailyActivityRepository,
+            UserStatsService userStatsService
     ) {
         this.currentUserProvider = currentUserProvider;
         this.userCaseProgressRepository = userCaseProgressRepository;
-        this.attemptRepository = attemptRepository;
+        this.userDailyActivityRepository = userDailyActivityRepository;
+        this.userStatsService = userStatsService;
     }
 
+    /**
+     * Served from the user_stats counters (one primary-key read, cached briefly).
+     */
     @Transactional(readOnly = true)
     public DashboardSummaryResponse getSummary() {
-        User user = currentUserProvider.getCurrentUser();
-        long correctCount = userCaseProgressRepository.countByUserIdAndStatus(user.getId(), UserCaseStatus.CORRECT);
-        long wrongCount = userCaseProgressRepository.countByUserIdAndStatus(user.getId(), UserCaseStatus.WRONG);
-        long reattemptCount = userCaseProgressRepository.countByUserIdAndStatus(user.getId(), UserCaseStatus.REATTEMPT_CORRECT);
-
-        int xp = calculateXp(correctCount, wrongCount, reattemptCount);
-        int level = Math.max(1, xp / 100 + 1);
-        int streak = calculateRecentStreak(user);
+        UserStatsSnapshot stats = userStatsService.getSnapshot(currentUserProvider.getCurrentUserId());
 
         return new DashboardSummaryResponse(
-                correctCount,
-                wrongCount,
-                reattemptCount,
-                xp,
-                level,
-                streak,
+                stats.correctCount(),
+                stats.wrongCount(),
+                stats.reattemptCorrectCount(),
+                (int) Math.min(stats.xp(), Integer.MAX_VALUE),
+                stats.level(),
+                stats.streakOn(LocalDate.now(ProgressRules.ACTIVITY_ZONE_ID)),
                 ProgressRules.CORRECT_THRESHOLD
         );
     }
 
     @Transactional(readOnly = true)
     public List<DashboardCaseItemResponse> getCases(UserCaseStatus status) {
-        User user = currentUserProvider.getCurrentUser();
         List<UserCaseProgress> progresses = userCaseProgressRepository.findByUserIdAndStatusWithCase(
-                user.getId(),
+                currentUserProvider.getCurrentUserId(),
                 status
         );
 
@@ -83,80 +78,33 @@ public class DashboardService {
     @Transactional(readOnly = true)
     public DashboardActivityResponse getActivity(int requestedDays) {
         int days = Math.min(Math.max(requestedDays, 1), 365);
-        User user = currentUserProvider.getCurrentUser();
+        Long userId = currentUserProvider.getCurrentUserId();
 
-        LocalDate endDate = LocalDate.now(ACTIVITY_ZONE_ID);
+        LocalDate endDate = LocalDate.now(ProgressRules.ACTIVITY_ZONE_ID);
         LocalDate startDate = endDate.minusDays(days - 1L);
 
-        Instant startInstant = startDate.atStartOfDay(ACTIVITY_ZONE_ID).toInstant();
-        Instant endInstantExclusive = endDate.plusDays(1L).atStartOfDay(ACTIVITY_ZONE_ID).toInstant();
-
-        List<Attempt> attempts = attemptRepository.findCorrectAttemptsByUserIdAndSubmittedAtBetween(
-                user.getId(),
-                startInstant,
-                endInstantExclusive,
-                ProgressRules.CORRECT_THRESHOLD
-        );
-
-        Map<LocalDate, Long> attemptsByDay = attempts.stream()
-                .collect(Collectors.groupingBy(
-                        attempt -> attempt.getSubmittedAt().atZone(ACTIVITY_ZONE_ID).toLocalDate(),
-                        Collectors.counting()
-                ));
+        // user_daily_activity 롤업에서 최대 365행만 읽음
+        Map<LocalDate, Long> solvedByDay = new HashMap<>();
+        for (UserDailyActivity row : userDailyActivityRepository.findByUserIdAndDayBetweenOrderByDayAsc(
+                userId,
+                startDate,
+                endDate
+        )) {
+            solvedByDay.put(row.getDay(), (long) row.getSolvedCount());
+        }
 
         List<DashboardActivityResponse.DashboardActivityDay> daysPayload = new ArrayList<>();
         LocalDate cursor = startDate;
         long totalSolved = 0;
         while (!cursor.isAfter(endDate)) {
-            long solvedCount = attemptsByDay.getOrDefault(cursor, 0L);
+            long solvedCount = solvedByDay.getOrDefault(cursor, 0L);
             totalSolved += solvedCount;
             daysPayload.add(new DashboardActivityResponse.DashboardActivityDay(cursor.toString(), solvedCount));
             cursor = cursor.plusDays(1);
         }
 
-        int streak = calculateStreak(endDate, startDate, attemptsByDay);
+        int streak = Math.min(userStatsService.getSnapshot(userId).streakOn(endDate), days);
 
         return new DashboardActivityResponse(daysPayload, totalSolved, streak);
     }
-
-    private int calculateStreak(LocalDate endDate, LocalDate startDate, Map<LocalDate, Long> attemptsByDay) {
-        int streak = 0;
-        LocalDate cursor = endDate;
-        while (!cursor.isBefore(startDate)) {
-            long count = attemptsByDay.getOrDefault(cursor, 0L);
-            if (count <= 0) {
-                break;
-            }
-            streak += 1;
-            cursor = cursor.minusDays(1);
-        }
-        return streak;
-    }
-
-    private int calculateXp(long correct, long wrong, long reattemptCorrect) {
-        long xp = correct * 50L + reattemptCorrect * 70L + wrong * 10L;
-        return (int) Math.min(xp, Integer.MAX_VALUE);
-    }
-
-    private int calculateRecentStreak(User user) {
-        LocalDate endDate = LocalDate.now(ACTIVITY_ZONE_ID);
-        LocalDate startDate = endDate.minusDays(364L);
-        Instant startInstant = startDate.atStartOfDay(ACTIVITY_ZONE_ID).toInstant();
-        Instant endInstantExclusive = endDate.plusDays(1L).atStartOfDay(ACTIVITY_ZONE_ID).toInstant();
-
-        List<Attempt> attempts = attemptRepository.findCorrectAttemptsByUserIdAndSubmittedAtBetween(
-                user.getId(),
-                startInstant,
-                endInstantExclusive,
-                ProgressRules.CORRECT_THRESHOLD
-        );
-
-        Map<LocalDate, Long> attemptsByDay = attempts.stream()
-                .collect(Collectors.groupingBy(
-                        attempt -> attempt.getSubmittedAt().atZone(ACTIVITY_ZONE_ID).toLocalDate(),
-                        Collectors.counting()
-                ));
-
-        return calculateStreak(endDate, startDate, attemptsByDay);
-    }
 }
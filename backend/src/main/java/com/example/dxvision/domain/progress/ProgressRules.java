@@ -1,5 +1,7 @@
 package com.example.dxvision.domain.progress;
 
+import java.time.ZoneId;
+
 public final class ProgressRules {
     private ProgressRules() {
     }
@@ -8,4 +10,17 @@ public final class ProgressRules {
      * Final score threshold (0..100) to consider an attempt correct.
      */
     public static final double CORRECT_THRESHOLD = 70.0;
+
+    /**
+     * Zone used to bucket attempts into calendar days (activity heatmap, streaks).
+     */
+    public static final ZoneId ACTIVITY_ZONE_ID = ZoneId.of("Asia/Seoul");
+
+    public static long xp(long correct, long wrong, long reattemptCorrect) {
+        return correct * 50L + reattemptCorrect * 70L + wrong * 10L;
+    }
+
+    public static int level(long xp) {
+        return (int) Math.max(1, Math.min(xp, Integer.MAX_VALUE) / 100 + 1);
+    }
 }
@@ -0,0 +1,7 @@
+package com.example.dxvision.domain.progress;
+
+/**
+ * Progress status change caused by one attempt; {@code from} is null for a case's first attempt.
+ */
+public record StatusTransition(UserCaseStatus from, UserCaseStatus to) {
+}
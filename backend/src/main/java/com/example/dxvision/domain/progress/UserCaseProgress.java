@@ -3,6 +3,7 @@ package com.example.dxvision.domain.progress;
 import com.example.dxvision.domain.auth.User;
 import com.example.dxvision.domain.attempt.Attempt;
 import com.example.dxvision.domain.casefile.ImageCase;
+import com.example.dxvision.global.jpa.PooledIdGenerators;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -16,6 +17,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.UniqueConstraint;
 import java.time.Instant;
 import lombok.Getter;
@@ -30,7 +32,15 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class UserCaseProgress {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_case_progress_id")
+    @TableGenerator(
+            name = "user_case_progress_id",
+            table = PooledIdGenerators.TABLE,
+            pkColumnName = PooledIdGenerators.PK_COLUMN,
+            valueColumnName = PooledIdGenerators.VALUE_COLUMN,
+            pkColumnValue = PooledIdGenerators.USER_CASE_PROGRESS,
+            allocationSize = PooledIdGenerators.ALLOCATION_SIZE
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -0,0 +1,73 @@
+package com.example.dxvision.domain.progress;
+
+import com.example.dxvision.domain.auth.User;
+import com.example.dxvision.global.jpa.PooledIdGenerators;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-user, per-day attempt rollup (day in {@link ProgressRules#ACTIVITY_ZONE_ID}).
+ * Maintained on submission; rebuilt from attempts by the backfill job.
+ */
+@Entity
+@Table(
+        name = "user_daily_activity",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "activity_day"})
+)
+@Getter
+@NoArgsConstructor
+public class UserDailyActivity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_daily_activity_id")
+    @TableGenerator(
+            name = "user_daily_activity_id",
+            table = PooledIdGenerators.TABLE,
+            pkColumnName = PooledIdGenerators.PK_COLUMN,
+            valueColumnName = PooledIdGenerators.VALUE_COLUMN,
+            pkColumnValue = PooledIdGenerators.USER_DAILY_ACTIVITY,
+            allocationSize = PooledIdGenerators.ALLOCATION_SIZE
+    )
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Column(name = "activity_day", nullable = false)
+    private LocalDate day;
+
+    @Column(nullable = false)
+    private int solvedCount;
+
+    @Column(nullable = false)
+    private int attemptCount;
+
+    public UserDailyActivity(User user, LocalDate day) {
+        this.user = user;
+        this.day = day;
+    }
+
+    public void record(boolean solved) {
+        this.attemptCount += 1;
+        if (solved) {
+            this.solvedCount += 1;
+        }
+    }
+
+    public void reset(int solvedCount, int attemptCount) {
+        this.solvedCount = solvedCount;
+        this.attemptCount = attemptCount;
+    }
+}
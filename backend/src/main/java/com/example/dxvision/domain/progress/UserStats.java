@@ -0,0 +1,168 @@
+package com.example.dxvision.domain.progress;
+
+import com.example.dxvision.domain.auth.User;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row per user with running aggregates, so dashboard reads are O(1).
+ * Writers lock the row (PESSIMISTIC_WRITE) which also serializes the user's daily activity upserts.
+ */
+@Entity
+@Table(
+        name = "user_stats",
+        indexes = {
+                @Index(name = "idx_user_stats_last_attempt_at", columnList = "last_attempt_at"),
+                @Index(name = "idx_user_stats_attempt_count", columnList = "attempt_count")
+        }
+)
+@Getter
+@NoArgsConstructor
+public class UserStats {
+    /**
+     * Bumped whenever a stored aggregate is added; rows below it are recomputed by the backfill job.
+     */
+    public static final int CURRENT_REVISION = 2;
+
+    @Id
+    private Long userId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    /**
+     * Consecutive days with at least one solved attempt, ending at lastSolvedDay.
+     */
+    @Column(nullable = false)
+    private int currentStreak;
+
+    @Column
+    private LocalDate lastSolvedDay;
+
+    @Column
+    private LocalDate lastActiveDay;
+
+    /**
+     * Number of cases per current progress status; moved on every status transition.
+     */
+    @Column(nullable = false)
+    private long correctCount;
+
+    @Column(nullable = false)
+    private long wrongCount;
+
+    @Column(nullable = false)
+    private long reattemptCorrectCount;
+
+    @Column(nullable = false)
+    private long xp;
+
+    /**
+     * Total submitted attempts and the latest submission time; admin user listing sorts on these.
+     */
+    @Column(nullable = false)
+    private long attemptCount;
+
+    @Column
+    private Instant lastAttemptAt;
+
+    /**
+     * 0 = created on the fly (aggregates only counted since creation), see {@link #CURRENT_REVISION}.
+     */
+    @Column(nullable = false)
+    private int revision;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    public UserStats(User user) {
+        this.user = user;
+    }
+
+    public void recordDay(LocalDate day, boolean solved) {
+        if (lastActiveDay == null || day.isAfter(lastActiveDay)) {
+            lastActiveDay = day;
+        }
+        if (!solved || day.equals(lastSolvedDay)) {
+            return;
+        }
+        if (lastSolvedDay != null && day.isBefore(lastSolvedDay)) {
+            // 과거 날짜(지연 반영)는 연속 기록 재계산 대상 → 백필에서 처리
+            return;
+        }
+        currentStreak = lastSolvedDay != null && lastSolvedDay.plusDays(1).equals(day) ? currentStreak + 1 : 1;
+        lastSolvedDay = day;
+    }
+
+    public void recordAttempts(int count, Instant submittedAt) {
+        this.attemptCount += count;
+        if (submittedAt != null && (lastAttemptAt == null || submittedAt.isAfter(lastAttemptAt))) {
+            this.lastAttemptAt = submittedAt;
+        }
+    }
+
+    public void applyTransition(StatusTransition transition) {
+        if (transition.from() == transition.to()) {
+            return;
+        }
+        adjust(transition.from(), -1);
+        adjust(transition.to(), 1);
+        this.xp = ProgressRules.xp(correctCount, wrongCount, reattemptCorrectCount);
+    }
+
+    public void reset(int currentStreak, LocalDate lastSolvedDay, LocalDate lastActiveDay) {
+        this.currentStreak = currentStreak;
+        this.lastSolvedDay = lastSolvedDay;
+        this.lastActiveDay = lastActiveDay;
+    }
+
+    public void resetCounters(
+            long correctCount,
+            long wrongCount,
+            long reattemptCorrectCount,
+            long attemptCount,
+            Instant lastAttemptAt
+    ) {
+        this.correctCount = correctCount;
+        this.wrongCount = wrongCount;
+        this.reattemptCorrectCount = reattemptCorrectCount;
+        this.xp = ProgressRules.xp(correctCount, wrongCount, reattemptCorrectCount);
+        this.attemptCount = attemptCount;
+        this.lastAttemptAt = lastAttemptAt;
+        this.revision = CURRENT_REVISION;
+    }
+
+    private void adjust(UserCaseStatus status, int delta) {
+        if (status == null) {
+            return;
+        }
+        switch (status) {
+            case CORRECT -> correctCount = Math.max(0, correctCount + delta);
+            case WRONG -> wrongCount = Math.max(0, wrongCount + delta);
+            case REATTEMPT_CORRECT -> reattemptCorrectCount = Math.max(0, reattemptCorrectCount + delta);
+            default -> {
+            }
+        }
+    }
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        this.updatedAt = Instant.now();
+    }
+}
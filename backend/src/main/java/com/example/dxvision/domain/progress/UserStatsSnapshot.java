@@ -0,0 +1,36 @@
+package com.example.dxvision.domain.progress;
+
+import java.time.LocalDate;
+
+/**
+ * Immutable copy of a {@link UserStats} row, safe to share through the in-process cache.
+ */
+public record UserStatsSnapshot(
+        long correctCount,
+        long wrongCount,
+        long reattemptCorrectCount,
+        long xp,
+        int currentStreak,
+        LocalDate lastSolvedDay
+) {
+    public static final UserStatsSnapshot EMPTY = new UserStatsSnapshot(0, 0, 0, 0, 0, null);
+
+    public static UserStatsSnapshot of(UserStats stats) {
+        return new UserStatsSnapshot(
+                stats.getCorrectCount(),
+                stats.getWrongCount(),
+                stats.getReattemptCorrectCount(),
+                stats.getXp(),
+                stats.getCurrentStreak(),
+                stats.getLastSolvedDay()
+        );
+    }
+
+    public int level() {
+        return ProgressRules.level(xp);
+    }
+
+    public int streakOn(LocalDate today) {
+        return today.equals(lastSolvedDay) ? currentStreak : 0;
+    }
+}
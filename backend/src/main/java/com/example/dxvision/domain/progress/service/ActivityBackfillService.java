@@ -0,0 +1,83 @@
+package com.example.dxvision.domain.progress.service;
+
+import com.example.dxvision.domain.admin.dto.ActivityBackfillResponse;
+import com.example.dxvision.domain.progress.UserStats;
+import com.example.dxvision.domain.repository.AttemptRepository;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Rebuilds user_stats and daily activity rollups from attempts/progress, one transaction per user.
+ * Users whose stats row is missing or older than {@link UserStats#CURRENT_REVISION} are rebuilt by a
+ * background job in small batches after startup, so readiness never waits on it. Every instance runs the
+ * job; {@link UserStatsService#rebuildIfStale} re-checks under the row lock so each user is rebuilt once.
+ */
+@Service
+public class ActivityBackfillService {
+    private static final Logger log = LoggerFactory.getLogger(ActivityBackfillService.class);
+
+    private final UserStatsService userStatsService;
+    private final AttemptRepository attemptRepository;
+    private final int batchSize;
+    // 한 번 비면 이 인스턴스에서는 더 이상 anti-join 스캔을 돌리지 않음
+    private final AtomicBoolean drained = new AtomicBoolean();
+
+    public ActivityBackfillService(
+            UserStatsService userStatsService,
+            AttemptRepository attemptRepository,
+            @Value("${app.stats.backfill-batch-size:200}") int batchSize
+    ) {
+        this.userStatsService = userStatsService;
+        this.attemptRepository = attemptRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.stats.backfill-initial-delay-ms:30000}",
+            fixedDelayString = "${app.stats.backfill-interval-ms:10000}"
+    )
+    public void backfillStale() {
+        if (drained.get()) {
+            return;
+        }
+        List<Long> userIds = attemptRepository.findUserIdsWithStaleStats(UserStats.CURRENT_REVISION, Limit.of(batchSize));
+        if (userIds.isEmpty()) {
+            drained.set(true);
+            log.info("User stats backfill complete");
+            return;
+        }
+        int rebuilt = 0;
+        for (Long userId : userIds) {
+            try {
+                if (userStatsService.rebuildIfStale(userId)) {
+                    rebuilt++;
+                }
+            } catch (RuntimeException ex) {
+                log.warn("User stats backfill failed for user {}", userId, ex);
+            }
+        }
+        log.info("Backfilled user stats for {} of {} stale users", rebuilt, userIds.size());
+    }
+
+    public ActivityBackfillResponse backfillAll() {
+        return rebuild(attemptRepository.findDistinctUserIds());
+    }
+
+    public ActivityBackfillResponse backfillUser(Long userId) {
+        return new ActivityBackfillResponse(1, userStatsService.rebuild(userId));
+    }
+
+    private ActivityBackfillResponse rebuild(List<Long> userIds) {
+        long days = 0;
+        for (Long userId : userIds) {
+            days += userStatsService.rebuild(userId);
+        }
+        return new ActivityBackfillResponse(userIds.size(), days);
+    }
+}
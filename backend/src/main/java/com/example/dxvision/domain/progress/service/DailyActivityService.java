@@ -0,0 +1,130 @@
+package com.example.dxvision.domain.progress.service;
+
+import com.example.dxvision.domain.attempt.Attempt;
+import com.example.dxvision.domain.auth.User;
+import com.example.dxvision.domain.progress.ProgressRules;
+import com.example.dxvision.domain.progress.UserDailyActivity;
+import com.example.dxvision.domain.progress.UserStats;
+import com.example.dxvision.domain.repository.AttemptActivityRow;
+import com.example.dxvision.domain.repository.AttemptRepository;
+import com.example.dxvision.domain.repository.UserDailyActivityRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+
+/**
+ * Maintains user_daily_activity and the streak columns of user_stats.
+ * Callers hold the user's stats row lock ({@link UserStatsService}), so concurrent submissions
+ * of one user never race on the (user_id, day) unique key.
+ */
+@Service
+class DailyActivityService {
+    private final UserDailyActivityRepository userDailyActivityRepository;
+    private final AttemptRepository attemptRepository;
+
+    DailyActivityService(
+            UserDailyActivityRepository userDailyActivityRepository,
+            AttemptRepository attemptRepository
+    ) {
+        this.userDailyActivityRepository = userDailyActivityRepository;
+        this.attemptRepository = attemptRepository;
+    }
+
+    void record(User user, UserStats stats, List<Attempt> attempts) {
+        if (attempts.isEmpty()) {
+            return;
+        }
+
+        Set<LocalDate> days = attempts.stream()
+                .map(attempt -> toDay(attempt.getSubmittedAt()))
+                .collect(Collectors.toSet());
+        Map<LocalDate, UserDailyActivity> rowsByDay = new HashMap<>();
+        for (UserDailyActivity row : userDailyActivityRepository.findByUserIdAndDayIn(user.getId(), days)) {
+            rowsByDay.put(row.getDay(), row);
+        }
+
+        List<UserDailyActivity> created = new ArrayList<>();
+        List<Attempt> ordered = attempts.stream()
+                .sorted(Comparator.comparing(Attempt::getSubmittedAt))
+                .toList();
+        for (Attempt attempt : ordered) {
+            LocalDate day = toDay(attempt.getSubmittedAt());
+            boolean solved = attempt.getFinalScore() >= ProgressRules.CORRECT_THRESHOLD;
+            UserDailyActivity row = rowsByDay.computeIfAbsent(day, d -> {
+                UserDailyActivity fresh = new UserDailyActivity(user, d);
+                created.add(fresh);
+                return fresh;
+            });
+            row.record(solved);
+            stats.recordDay(day, solved);
+        }
+        userDailyActivityRepository.saveAll(created);
+    }
+
+    /**
+     * Recomputes the user's rollup rows and streak from the attempts table.
+     * Existing rows are updated in place, stale ones removed.
+     *
+     * @return number of active days written
+     */
+    int rebuild(User user, UserStats stats) {
+        Long userId = user.getId();
+
+        TreeMap<LocalDate, int[]> countsByDay = new TreeMap<>();
+        for (AttemptActivityRow row : attemptRepository.findActivityRowsByUserId(userId)) {
+            int[] counts = countsByDay.computeIfAbsent(toDay(row.submittedAt()), d -> new int[2]);
+            counts[1] += 1;
+            if (row.finalScore() >= ProgressRules.CORRECT_THRESHOLD) {
+                counts[0] += 1;
+            }
+        }
+
+        Map<LocalDate, UserDailyActivity> existing = new HashMap<>();
+        for (UserDailyActivity row : userDailyActivityRepository.findByUserId(userId)) {
+            existing.put(row.getDay(), row);
+        }
+
+        List<UserDailyActivity> created = new ArrayList<>();
+        for (Map.Entry<LocalDate, int[]> entry : countsByDay.entrySet()) {
+            UserDailyActivity row = existing.remove(entry.getKey());
+            if (row == null) {
+                row = new UserDailyActivity(user, entry.getKey());
+                created.add(row);
+            }
+            row.reset(entry.getValue()[0], entry.getValue()[1]);
+        }
+        userDailyActivityRepository.deleteAll(existing.values());
+        userDailyActivityRepository.saveAll(created);
+
+        LocalDate lastSolvedDay = null;
+        int streak = 0;
+        for (Map.Entry<LocalDate, int[]> entry : countsByDay.descendingMap().entrySet()) {
+            if (entry.getValue()[0] == 0) {
+                continue;
+            }
+            if (lastSolvedDay == null) {
+                lastSolvedDay = entry.getKey();
+                streak = 1;
+            } else if (entry.getKey().equals(lastSolvedDay.minusDays(streak))) {
+                streak += 1;
+            } else {
+                break;
+            }
+        }
+        LocalDate lastActiveDay = countsByDay.isEmpty() ? null : countsByDay.lastKey();
+        stats.reset(streak, lastSolvedDay, lastActiveDay);
+        return countsByDay.size();
+    }
+
+    private static LocalDate toDay(Instant instant) {
+        return instant.atZone(ProgressRules.ACTIVITY_ZONE_ID).toLocalDate();
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.dxvision.domain.progress.service;
+
+import com.example.dxvision.domain.attempt.Attempt;
+import com.example.dxvision.domain.auth.User;
+import com.example.dxvision.domain.progress.StatusTransition;
+import com.example.dxvision.domain.progress.UserStats;
+import com.example.dxvision.domain.progress.UserStatsSnapshot;
+import com.example.dxvision.domain.repository.UserCaseProgressRepository;
+import com.example.dxvision.domain.repository.UserProgressAggregate;
+import com.example.dxvision.domain.repository.UserRepository;
+import com.example.dxvision.domain.repository.UserStatsRepository;
+import com.example.dxvision.global.cache.TtlCache;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Owns the per-user user_stats row: status counters, XP and (via {@link DailyActivityService}) the
+ * daily rollup and streak. Writers lock the row; readers go through a short-TTL snapshot cache that
+ * writers invalidate both immediately and after commit.
+ */
+@Service
+public class UserStatsService {
+    private final UserStatsRepository userStatsRepository;
+    private final UserCaseProgressRepository userCaseProgressRepository;
+    private final UserRepository userRepository;
+    private final DailyActivityService dailyActivityService;
+    private final TtlCache<Long, UserStatsSnapshot> snapshotCache;
+
+    public UserStatsService(
+            UserStatsRepository userStatsRepository,
+            UserCaseProgressRepository userCaseProgressRepository,
+            UserRepository userRepository,
+            DailyActivityService dailyActivityService,
+            @Value("${app.stats.cache-ttl-ms:5000}") long cacheTtlMs,
+            @Value("${app.stats.cache-max-size:10000}") int cacheMaxSize
+    ) {
+        this.userStatsRepository = userStatsRepository;
+        this.userCaseProgressRepository = userCaseProgressRepository;
+        this.userRepository = userRepository;
+        this.dailyActivityService = dailyActivityService;
+        this.snapshotCache = new TtlCache<>(Duration.ofMillis(cacheTtlMs), cacheMaxSize);
+    }
+
+    @Transactional(readOnly = true)
+    public UserStatsSnapshot getSnapshot(Long userId) {
+        return snapshotCache.get(userId, id -> userStatsRepository.findById(id)
+                .map(UserStatsSnapshot::of)
+                .orElse(UserStatsSnapshot.EMPTY));
+    }
+
+    /**
+     * Applies one submission (single or batch) to the user's aggregates under the row lock.
+     */
+    @Transactional
+    public void recordSubmission(User user, List<Attempt> attempts, List<StatusTransition> transitions) {
+        if (attempts.isEmpty()) {
+            return;
+        }
+        UserStats stats = lockStats(user);
+        transitions.forEach(stats::applyTransition);
+        stats.recordAttempts(attempts.size(), attempts.stream()
+                .map(Attempt::getSubmittedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null));
+        dailyActivityService.record(user, stats, attempts);
+        invalidate(user.getId());
+    }
+
+    /**
+     * Recomputes counters from user_case_progress and the daily rollup/streak from attempts.
+     *
+     * @return number of active days written
+     */
+    @Transactional
+    public int rebuild(Long userId) {
+        User user = userRepository.getReferenceById(userId);
+        return rebuild(user, lockStats(user));
+    }
+
+    /**
+     * Like {@link #rebuild(Long)}, but re-checks the revision under the row lock and skips users another
+     * instance has already rebuilt, so concurrent backfill jobs never redo the same user.
+     *
+     * @return whether the user was rebuilt
+     */
+    @Transactional
+    public boolean rebuildIfStale(Long userId) {
+        User user = userRepository.getReferenceById(userId);
+        UserStats stats = lockStats(user);
+        if (stats.getRevision() >= UserStats.CURRENT_REVISION) {
+            return false;
+        }
+        rebuild(user, stats);
+        return true;
+    }
+
+    private int rebuild(User user, UserStats stats) {
+        Long userId = user.getId();
+
+        List<UserProgressAggregate> aggregates = userCaseProgressRepository.aggregateByUserIds(List.of(userId));
+        if (aggregates.isEmpty()) {
+            stats.resetCounters(0, 0, 0, 0, null);
+        } else {
+            UserProgressAggregate aggregate = aggregates.getFirst();
+            stats.resetCounters(
+                    nullToZero(aggregate.getCorrectCases()),
+                    nullToZero(aggregate.getWrongCases()),
+                    nullToZero(aggregate.getReattemptCorrectCases()),
+                    nullToZero(aggregate.getCorrectAttempts()) + nullToZero(aggregate.getWrongAttempts()),
+                    aggregate.getLastAttemptAt()
+            );
+        }
+        int days = dailyActivityService.rebuild(user, stats);
+        invalidate(userId);
+        return days;
+    }
+
+    // 존재 확인 후 insert 는 동시 첫 제출끼리 경합하므로 upsert 로 행을 보장한 뒤 잠금
+    private UserStats lockStats(User user) {
+        userStatsRepository.insertIfAbsent(user.getId());
+        return userStatsRepository.findForUpdate(user.getId())
+                .orElseThrow(() -> new IllegalStateException("user_stats row missing for user " + user.getId()));
+    }
+
+    private void invalidate(Long userId) {
+        snapshotCache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 커밋 전 값으로 다시 채워졌을 수 있으므로 커밋 후 한 번 더 제거
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshotCache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    private static long nullToZero(Long value) {
+        return value == null ? 0 : value;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.dxvision.domain.repository;
+
+import com.example.dxvision.domain.auth.Role;
+import com.example.dxvision.domain.auth.UserStatus;
+import java.time.Instant;
+
+/**
+ * Admin user list row; stats columns are null for users without a user_stats row.
+ */
+public record AdminUserRow(
+        Long id,
+        String email,
+        String name,
+        Role role,
+        UserStatus status,
+        Instant createdAt,
+        Long attemptCount,
+        Long correctCount,
+        Long wrongCount,
+        Long reattemptCorrectCount,
+        Instant lastAttemptAt
+) {
+}
@@ -0,0 +1,9 @@
+package com.example.dxvision.domain.repository;
+
+import java.time.Instant;
+
+/**
+ * Minimal attempt projection for rebuilding daily activity rollups.
+ */
+public record AttemptActivityRow(Instant submittedAt, double finalScore) {
+}
@@ -2,6 +2,7 @@ package com.example.dxvision.domain.repository;
 
 import com.example.dxvision.domain.attempt.Attempt;
 import java.time.Instant;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -24,17 +25,23 @@ public interface AttemptRepository extends JpaRepository<Attempt, Long> {
 
     List<Attempt> findByUserIdAndSubmittedAtBetween(Long userId, Instant start, Instant end);
 
+    @Query("select distinct a.user.id from Attempt a")
+    List<Long> findDistinctUserIds();
+
     @Query("""
-            select a from Attempt a
+            select distinct a.user.id from Attempt a
+            where not exists (
+                select 1 from UserStats s
+                where s.userId = a.user.id and s.revision >= :revision
+            )
+            order by a.user.id
+            """)
+    List<Long> findUserIdsWithStaleStats(@Param("revision") int revision, Limit limit);
+
+    @Query("""
+            select new com.example.dxvision.domain.repository.AttemptActivityRow(a.submittedAt, a.finalScore)
+            from Attempt a
             where a.user.id = :userId
-            and a.submittedAt >= :start
-            and a.submittedAt < :end
-            and a.finalScore >= :threshold
             """)
-    List<Attempt> findCorrectAttemptsByUserIdAndSubmittedAtBetween(
-            @Param("userId") Long userId,
-            @Param("start") Instant start,
-            @Param("end") Instant end,
-            @Param("threshold") double threshold
-    );
+    List<AttemptActivityRow> findActivityRowsByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,7 @@
+package com.example.dxvision.domain.repository;
+
+/**
+ * Case id and its current image URL, for the derivative pipeline.
+ */
+public record CaseImageRow(Long caseId, String imageUrl) {
+}
@@ -4,11 +4,21 @@ import com.example.dxvision.domain.casefile.DiagnosisFolder;
 import com.example.dxvision.domain.casefile.OptionType;
 import java.util.Collection;
 import java.util.List;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface DiagnosisFolderRepository extends JpaRepository<DiagnosisFolder, Long> {
-    boolean existsByDiagnosisId(Long diagnosisId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            INSERT INTO diagnosis_folders (folder_id, diagnosis_id, sort_order)
+            SELECT :folderId, i.id, 0
+            FROM diagnoses i
+            WHERE NOT EXISTS (SELECT 1 FROM diagnosis_folders m WHERE m.diagnosis_id = i.id)
+            """, nativeQuery = true)
+    int attachUnassignedDiagnoses(@Param("folderId") Long folderId);
 
     @Query("""
             select df from DiagnosisFolder df
@@ -28,6 +38,7 @@ public interface DiagnosisFolderRepository extends JpaRepository<DiagnosisFolder
             """)
     List<DiagnosisFolder> findOrderedByTypeAndDiagnosisIds(OptionType type, Collection<Long> diagnosisIds);
 
+    @EntityGraph(attributePaths = "diagnosis")
     List<DiagnosisFolder> findByFolderId(Long folderId);
 
     @Query("select max(df.sortOrder) from DiagnosisFolder df where df.folder.id = :folderId")
@@ -4,11 +4,21 @@ import com.example.dxvision.domain.casefile.FindingFolder;
 import com.example.dxvision.domain.casefile.OptionType;
 import java.util.Collection;
 import java.util.List;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface FindingFolderRepository extends JpaRepository<FindingFolder, Long> {
-    boolean existsByFindingId(Long findingId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            INSERT INTO finding_folders (folder_id, finding_id, sort_order)
+            SELECT :folderId, i.id, 0
+            FROM findings i
+            WHERE NOT EXISTS (SELECT 1 FROM finding_folders m WHERE m.finding_id = i.id)
+            """, nativeQuery = true)
+    int attachUnassignedFindings(@Param("folderId") Long folderId);
 
     @Query("""
             select ff from FindingFolder ff
@@ -28,6 +38,7 @@ public interface FindingFolderRepository extends JpaRepository<FindingFolder, Lo
             """)
     List<FindingFolder> findOrderedByTypeAndFindingIds(OptionType type, Collection<Long> findingIds);
 
+    @EntityGraph(attributePaths = "finding")
     List<FindingFolder> findByFolderId(Long folderId);
 
     @Query("select max(ff.sortOrder) from FindingFolder ff where ff.folder.id = :folderId")
@@ -0,0 +1,24 @@
+package com.example.dxvision.domain.repository;
+
+import com.example.dxvision.domain.casefile.DerivativeStatus;
+import com.example.dxvision.domain.casefile.Modality;
+import com.example.dxvision.domain.casefile.Species;
+import com.example.dxvision.domain.progress.UserCaseStatus;
+import java.time.Instant;
+
+/**
+ * Case list row with the caller's progress columns (null when the user has not attempted the case).
+ */
+public record ImageCaseProgressRow(
+        Long caseId,
+        String title,
+        Modality modality,
+        Species species,
+        String imageUrl,
+        DerivativeStatus derivativeStatus,
+        Instant updatedAt,
+        UserCaseStatus status,
+        Instant lastAttemptAt,
+        Double lastScore
+) {
+}
@@ -1,34 +1,134 @@
 package com.example.dxvision.domain.repository;
 
+import com.example.dxvision.domain.casefile.DerivativeStatus;
 import com.example.dxvision.domain.casefile.ImageCase;
+import com.example.dxvision.domain.casefile.search.CaseSearchDocument;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface ImageCaseRepository extends JpaRepository<ImageCase, Long>, JpaSpecificationExecutor<ImageCase> {
+public interface ImageCaseRepository extends JpaRepository<ImageCase, Long>, JpaSpecificationExecutor<ImageCase>,
+        ImageCaseRepositoryCustom {
 
     @EntityGraph(attributePaths = {"findings", "findings.finding", "diagnoses", "diagnoses.diagnosis"})
     Optional<ImageCase> findWithOptionsById(Long id);
 
+    @EntityGraph(attributePaths = {"findings", "findings.finding", "diagnoses", "diagnoses.diagnosis"})
+    List<ImageCase> findAllWithOptionsByIdIn(Collection<Long> ids);
+
     @Override
     @EntityGraph(attributePaths = {"findings", "findings.finding", "diagnoses", "diagnoses.diagnosis"})
     List<ImageCase> findAll();
 
     Page<ImageCase> findAll(Pageable pageable);
 
+    @Query("select ic.id from ImageCase ic")
+    List<Long> findAllIds();
+
+    @Query("""
+            select new com.example.dxvision.domain.repository.ImageCaseRevisionRow(
+                ic.version, ic.updatedAt, ic.derivativeStatus
+            )
+            from ImageCase ic
+            where ic.id = :id
+            """)
+    Optional<ImageCaseRevisionRow> findRevisionById(@Param("id") Long id);
+
+    @Query("""
+            select new com.example.dxvision.domain.repository.CaseImageRow(ic.id, ic.imageUrl)
+            from ImageCase ic
+            where ic.derivativeStatus is null
+               or ic.derivativeStatus = com.example.dxvision.domain.casefile.DerivativeStatus.PENDING
+            order by ic.id
+            """)
+    List<CaseImageRow> findPendingDerivatives(Limit limit);
+
+    // 이미지가 그 사이 교체됐다면 (imageUrl 불일치) 이전 작업 결과는 버림
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update ImageCase ic
+            set ic.derivativeStatus = :status, ic.derivativeError = :error
+            where ic.id = :id and ic.imageUrl = :imageUrl
+            """)
+    int updateDerivativeStatus(
+            @Param("id") Long id,
+            @Param("imageUrl") String imageUrl,
+            @Param("status") DerivativeStatus status,
+            @Param("error") String error
+    );
+
+    @Query("""
+            select new com.example.dxvision.domain.casefile.search.CaseSearchDocument(
+                ic.id, ic.modality, ic.species, ic.title, ic.description,
+                ic.expertFindingExplanation, ic.expertDiagnosisExplanation, ic.expertLocationExplanation
+            )
+            from ImageCase ic
+            """)
+    List<CaseSearchDocument> findAllSearchDocuments();
+
+    @Query("""
+            select new com.example.dxvision.domain.casefile.search.CaseSearchDocument(
+                ic.id, ic.modality, ic.species, ic.title, ic.description,
+                ic.expertFindingExplanation, ic.expertDiagnosisExplanation, ic.expertLocationExplanation
+            )
+            from ImageCase ic
+            where ic.id = :id
+            """)
+    Optional<CaseSearchDocument> findSearchDocumentById(@Param("id") Long id);
+
     @Query(value = "SELECT * FROM image_cases WHERE id = :id", nativeQuery = true)
     Optional<ImageCase> findByIdIncludingDeleted(Long id);
 
+    // soft-delete 된 케이스도 복구될 수 있으므로 참조로 센다
+    @Query(value = "SELECT count(*) FROM image_cases WHERE image_url = :imageUrl", nativeQuery = true)
+    long countByImageUrlIncludingDeleted(@Param("imageUrl") String imageUrl);
+
     @Query(
             value = "SELECT * FROM image_cases ORDER BY updated_at DESC",
             countQuery = "SELECT count(*) FROM image_cases",
             nativeQuery = true
     )
     Page<ImageCase> findAllIncludingDeleted(Pageable pageable);
+
+    // keyset paging: (updated_at, id) 기준 내림차순, count 없이 limit+1 로 hasNext 판단
+    List<ImageCase> findAllByOrderByUpdatedAtDescIdDesc(Limit limit);
+
+    @Query("""
+            select ic from ImageCase ic
+            where ic.updatedAt < :updatedAt or (ic.updatedAt = :updatedAt and ic.id < :id)
+            order by ic.updatedAt desc, ic.id desc
+            """)
+    List<ImageCase> findPageAfter(@Param("updatedAt") Instant updatedAt, @Param("id") Long id, Limit limit);
+
+    @Query(
+            value = "SELECT * FROM image_cases ORDER BY updated_at DESC, id DESC LIMIT :limit",
+            nativeQuery = true
+    )
+    List<ImageCase> findFirstPageIncludingDeleted(@Param("limit") int limit);
+
+    @Query(
+            value = """
+                    SELECT * FROM image_cases
+                    WHERE updated_at < :updatedAt OR (updated_at = :updatedAt AND id < :id)
+                    ORDER BY updated_at DESC, id DESC
+                    LIMIT :limit
+                    """,
+            nativeQuery = true
+    )
+    List<ImageCase> findPageAfterIncludingDeleted(
+            @Param("updatedAt") Instant updatedAt,
+            @Param("id") Long id,
+            @Param("limit") int limit
+    );
 }
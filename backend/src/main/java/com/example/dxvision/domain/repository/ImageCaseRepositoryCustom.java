@@ -0,0 +1,47 @@
+package com.example.dxvision.domain.repository;
+
+import com.example.dxvision.domain.casefile.ImageCase;
+import com.example.dxvision.domain.progress.UserCaseStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ImageCaseRepositoryCustom {
+
+    /**
+     * Lists cases LEFT JOINed with the user's user_case_progress row in one query.
+     * status == UNSEEN keeps rows without progress (anti-join), any other status matches the joined row.
+     */
+    Page<ImageCaseProgressRow> findWithProgress(
+            Specification<ImageCase> specification,
+            Long userId,
+            UserCaseStatus status,
+            Pageable pageable
+    );
+
+    /**
+     * Same projection without a count query; used by keyset (cursor) paging.
+     */
+    List<ImageCaseProgressRow> findWithProgress(
+            Specification<ImageCase> specification,
+            Long userId,
+            UserCaseStatus status,
+            Sort sort,
+            int limit
+    );
+
+    /**
+     * Every case LEFT JOINed with one user's progress, for the admin per-user view. Sortable by
+     * caseId, title, status, attemptCount and lastAttemptAt; status filters as in {@link #findWithProgress}.
+     */
+    Page<UserCaseProgressRow> findProgressForUser(Long userId, UserCaseStatus status, Pageable pageable);
+
+    /**
+     * Id of the {@code offset}-th matching case in id order; fallback for uniform random draws.
+     */
+    Optional<Long> findMatchingIdAt(Specification<ImageCase> specification, long offset);
+}
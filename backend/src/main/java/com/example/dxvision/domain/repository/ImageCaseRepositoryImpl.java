@@ -0,0 +1,197 @@
+package com.example.dxvision.domain.repository;
+
+import com.example.dxvision.domain.casefile.ImageCase;
+import com.example.dxvision.domain.progress.UserCaseProgress;
+import com.example.dxvision.domain.progress.UserCaseStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.hibernate.query.criteria.JpaEntityJoin;
+import org.hibernate.query.criteria.JpaRoot;
+import org.hibernate.query.sqm.tree.SqmJoinType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+class ImageCaseRepositoryImpl implements ImageCaseRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ImageCaseProgressRow> findWithProgress(
+            Specification<ImageCase> specification,
+            Long userId,
+            UserCaseStatus status,
+            Pageable pageable
+    ) {
+        List<ImageCaseProgressRow> content = select(specification, userId, status, pageable.getSort())
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(specification, userId, status));
+    }
+
+    @Override
+    public List<ImageCaseProgressRow> findWithProgress(
+            Specification<ImageCase> specification,
+            Long userId,
+            UserCaseStatus status,
+            Sort sort,
+            int limit
+    ) {
+        return select(specification, userId, status, sort)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Page<UserCaseProgressRow> findProgressForUser(Long userId, UserCaseStatus status, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserCaseProgressRow> query = cb.createQuery(UserCaseProgressRow.class);
+        JpaRoot<ImageCase> root = (JpaRoot<ImageCase>) query.from(ImageCase.class);
+        JpaEntityJoin<UserCaseProgress> progress = joinProgress(cb, root, userId);
+        Expression<Integer> attemptCount = cb.sum(progress.get("correctCount"), progress.get("wrongCount"));
+        query.select(cb.construct(
+                        UserCaseProgressRow.class,
+                        root.get("id"),
+                        root.get("title"),
+                        progress.get("status"),
+                        attemptCount,
+                        progress.get("lastAttemptAt")
+                ))
+                .where(predicates(null, status, root, progress, query, cb));
+
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : pageable.getSort()) {
+            Expression<?> key = switch (order.getProperty()) {
+                case "caseId" -> root.get("id");
+                case "title" -> root.get("title");
+                case "status" -> progress.get("status");
+                case "lastAttemptAt" -> progress.get("lastAttemptAt");
+                // 미시도 케이스는 0회로 정렬
+                case "attemptCount" -> cb.coalesce(attemptCount, 0);
+                default -> throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+            };
+            orders.add(order.isAscending() ? cb.asc(key) : cb.desc(key));
+        }
+        // 동률 행의 페이지 간 순서 고정
+        orders.add(cb.asc(root.get("id")));
+        query.orderBy(orders);
+
+        List<UserCaseProgressRow> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(null, userId, status));
+    }
+
+    @Override
+    public Optional<Long> findMatchingIdAt(Specification<ImageCase> specification, long offset) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<ImageCase> root = query.from(ImageCase.class);
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        query.select(root.get("id"));
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(root.get("id")));
+        return entityManager.createQuery(query)
+                .setFirstResult((int) Math.min(offset, Integer.MAX_VALUE))
+                .setMaxResults(1)
+                .getResultStream()
+                .findFirst();
+    }
+
+    private TypedQuery<ImageCaseProgressRow> select(
+            Specification<ImageCase> specification,
+            Long userId,
+            UserCaseStatus status,
+            Sort sort
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ImageCaseProgressRow> query = cb.createQuery(ImageCaseProgressRow.class);
+        JpaRoot<ImageCase> root = (JpaRoot<ImageCase>) query.from(ImageCase.class);
+        JpaEntityJoin<UserCaseProgress> progress = joinProgress(cb, root, userId);
+        query.select(cb.construct(
+                        ImageCaseProgressRow.class,
+                        root.get("id"),
+                        root.get("title"),
+                        root.get("modality"),
+                        root.get("species"),
+                        root.get("imageUrl"),
+                        root.get("derivativeStatus"),
+                        root.get("updatedAt"),
+                        progress.get("status"),
+                        progress.get("lastAttemptAt"),
+                        progress.get("lastScore")
+                ))
+                .where(predicates(specification, status, root, progress, query, cb));
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<ImageCase> specification, Long userId, UserCaseStatus status) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        JpaRoot<ImageCase> root = (JpaRoot<ImageCase>) query.from(ImageCase.class);
+        // 상태 필터가 없으면 join 없이 count
+        JpaEntityJoin<UserCaseProgress> progress = status == null ? null : joinProgress(cb, root, userId);
+        query.select(cb.count(root))
+                .where(predicates(specification, status, root, progress, query, cb));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private JpaEntityJoin<UserCaseProgress> joinProgress(
+            CriteriaBuilder cb,
+            JpaRoot<ImageCase> root,
+            Long userId
+    ) {
+        JpaEntityJoin<UserCaseProgress> progress = root.join(UserCaseProgress.class, SqmJoinType.LEFT);
+        progress.on(
+                cb.equal(progress.get("imageCase").get("id"), root.get("id")),
+                cb.equal(progress.get("user").get("id"), userId)
+        );
+        return progress;
+    }
+
+    private Predicate[] predicates(
+            Specification<ImageCase> specification,
+            UserCaseStatus status,
+            Root<ImageCase> root,
+            JpaEntityJoin<UserCaseProgress> progress,
+            CriteriaQuery<?> query,
+            CriteriaBuilder cb
+    ) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (specification != null) {
+            Predicate predicate = specification.toPredicate(root, query, cb);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        if (status != null) {
+            predicates.add(status.isUnseen()
+                    ? cb.isNull(progress.get("id"))
+                    : cb.equal(progress.get("status"), status));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.dxvision.domain.repository;
+
+import com.example.dxvision.domain.casefile.DerivativeStatus;
+import java.time.Instant;
+
+/**
+ * Just enough of a case to answer conditional GETs without loading the entity.
+ */
+public record ImageCaseRevisionRow(Long version, Instant updatedAt, DerivativeStatus derivativeStatus) {
+}
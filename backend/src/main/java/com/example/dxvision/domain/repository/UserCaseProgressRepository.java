@@ -2,6 +2,7 @@ package com.example.dxvision.domain.repository;
 
 import com.example.dxvision.domain.progress.UserCaseProgress;
 import com.example.dxvision.domain.progress.UserCaseStatus;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -12,6 +13,8 @@ import org.springframework.data.repository.query.Param;
 public interface UserCaseProgressRepository extends JpaRepository<UserCaseProgress, Long> {
     Optional<UserCaseProgress> findByUserIdAndImageCaseId(Long userId, Long imageCaseId);
 
+    List<UserCaseProgress> findByUserIdAndImageCaseIdIn(Long userId, Collection<Long> imageCaseIds);
+
     long countByUserIdAndStatus(Long userId, UserCaseStatus status);
 
     @Query("""
@@ -25,32 +28,6 @@ public interface UserCaseProgressRepository extends JpaRepository<UserCaseProgre
             @Param("status") UserCaseStatus status
     );
 
-    @Query("""
-            select p from UserCaseProgress p
-            join fetch p.imageCase ic
-            where p.user.id = :userId
-            """)
-    List<UserCaseProgress> findByUserIdWithCase(@Param("userId") Long userId);
-
-    @Query("""
-            select p from UserCaseProgress p
-            join fetch p.imageCase ic
-            where p.user.id = :userId and p.imageCase.id in :caseIds
-            """)
-    List<UserCaseProgress> findByUserIdAndCaseIds(
-            @Param("userId") Long userId,
-            @Param("caseIds") List<Long> caseIds
-    );
-
-    @Query("""
-            select p.imageCase.id from UserCaseProgress p
-            where p.user.id = :userId and (:status is null or p.status = :status)
-            """)
-    List<Long> findCaseIdsByUserIdAndStatus(
-            @Param("userId") Long userId,
-            @Param("status") UserCaseStatus status
-    );
-
     @Query("""
             select p.user.id as userId,
                    sum(p.correctCount) as correctAttempts,
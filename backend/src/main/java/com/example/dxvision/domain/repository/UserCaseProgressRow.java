@@ -0,0 +1,16 @@
+package com.example.dxvision.domain.repository;
+
+import com.example.dxvision.domain.progress.UserCaseStatus;
+import java.time.Instant;
+
+/**
+ * One user's progress on one case (progress columns are null when the user has not attempted it).
+ */
+public record UserCaseProgressRow(
+        Long caseId,
+        String title,
+        UserCaseStatus status,
+        Integer attemptCount,
+        Instant lastAttemptAt
+) {
+}
@@ -0,0 +1,15 @@
+package com.example.dxvision.domain.repository;
+
+import com.example.dxvision.domain.progress.UserDailyActivity;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UserDailyActivityRepository extends JpaRepository<UserDailyActivity, Long> {
+    List<UserDailyActivity> findByUserId(Long userId);
+
+    List<UserDailyActivity> findByUserIdAndDayIn(Long userId, Collection<LocalDate> days);
+
+    List<UserDailyActivity> findByUserIdAndDayBetweenOrderByDayAsc(Long userId, LocalDate start, LocalDate end);
+}
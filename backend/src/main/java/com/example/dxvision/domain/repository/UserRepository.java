@@ -1,8 +1,10 @@
 package com.example.dxvision.domain.repository;
 
 import com.example.dxvision.domain.auth.User;
+import com.example.dxvision.domain.auth.UserStatus;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Page;
@@ -11,9 +13,34 @@ import org.springframework.data.domain.Pageable;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
+    @Query("select u.status from User u where u.id = :id")
+    Optional<UserStatus> findStatusById(@Param("id") Long id);
+
+    /**
+     * Users LEFT JOINed with their user_stats row. {@code prefix} is an already lower-cased LIKE pattern
+     * ending in '%' (escape char '!') matched against the indexed search keys; null lists everyone.
+     */
+    @Query(
+            value = """
+                    select new com.example.dxvision.domain.repository.AdminUserRow(
+                        u.id, u.email, u.name, u.role, u.status, u.createdAt,
+                        s.attemptCount, s.correctCount, s.wrongCount, s.reattemptCorrectCount, s.lastAttemptAt
+                    )
+                    from User u
+                    left join UserStats s on s.userId = u.id
+                    where :prefix is null or u.emailKey like :prefix escape '!' or u.nameKey like :prefix escape '!'
+                    """,
+            countQuery = """
+                    select count(u) from User u
+                    where :prefix is null or u.emailKey like :prefix escape '!' or u.nameKey like :prefix escape '!'
+                    """
+    )
+    Page<AdminUserRow> searchWithStats(@Param("prefix") String prefix, Pageable pageable);
+
+    @Modifying
     @Query("""
-            select u from User u
-            where (:q is null or :q = '' or lower(u.email) like lower(concat('%', :q, '%')) or lower(u.name) like lower(concat('%', :q, '%')))
+            update User u set u.emailKey = lower(u.email), u.nameKey = lower(u.name)
+            where u.emailKey is null or u.nameKey is null
             """)
-    Page<User> searchByEmailOrName(@Param("q") String q, Pageable pageable);
+    int fillMissingSearchKeys();
 }
@@ -0,0 +1,29 @@
+package com.example.dxvision.domain.repository;
+
+import com.example.dxvision.domain.progress.UserStats;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from UserStats s where s.userId = :userId")
+    Optional<UserStats> findForUpdate(@Param("userId") Long userId);
+
+    /**
+     * Creates the empty row (revision 0) unless it exists; a no-op on conflict, so concurrent
+     * first writers never fail on the primary key.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_stats (user_id, current_streak, correct_count, wrong_count,
+                                    reattempt_correct_count, xp, attempt_count, revision, updated_at)
+            VALUES (:userId, 0, 0, 0, 0, 0, 0, 0, CURRENT_TIMESTAMP)
+            ON DUPLICATE KEY UPDATE user_id = user_id
+            """, nativeQuery = true)
+    void insertIfAbsent(@Param("userId") Long userId);
+}
@@ -0,0 +1,80 @@
+package com.example.dxvision.global.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Small in-process cache with a fixed time-to-live and a soft size bound.
+ * Meant for per-user read models where a few seconds of staleness is acceptable and writers
+ * invalidate their own key; a zero TTL disables caching.
+ */
+public class TtlCache<K, V> {
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxSize;
+    private final LongSupplier clock;
+
+    public TtlCache(Duration ttl, int maxSize) {
+        this(ttl, maxSize, System::nanoTime);
+    }
+
+    TtlCache(Duration ttl, int maxSize, LongSupplier clock) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = Math.max(1, maxSize);
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cached value or loads it; null results are not cached.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        if (ttlNanos <= 0) {
+            return loader.apply(key);
+        }
+        long now = clock.getAsLong();
+        Entry<V> entry = entries.get(key);
+        if (entry != null && now - entry.expiresAt() < 0) {
+            return entry.value();
+        }
+        V value = loader.apply(key);
+        if (value == null) {
+            entries.remove(key);
+            return null;
+        }
+        if (entries.size() >= maxSize) {
+            evict(now);
+        }
+        entries.put(key, new Entry<>(value, now + ttlNanos));
+        return value;
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 만료 항목 우선 제거, 그래도 가득 차면 임의 항목을 1/4 정도 비움
+    private void evict(long now) {
+        entries.entrySet().removeIf(e -> now - e.getValue().expiresAt() >= 0);
+        int excess = entries.size() - maxSize * 3 / 4;
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (excess-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
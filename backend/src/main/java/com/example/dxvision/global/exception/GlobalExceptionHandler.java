@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.server.ResponseStatusException;
 
 @RestControllerAdvice
@@ -29,6 +30,20 @@ public class GlobalExceptionHandler {
                 getPath(request),
                 List.of()
         );
+        return ResponseEntity.status(status).headers(ex.getHeaders()).body(body);
+    }
+
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ErrorResponse> handleUploadTooLarge(MaxUploadSizeExceededException ex, WebRequest request) {
+        HttpStatus status = HttpStatus.PAYLOAD_TOO_LARGE;
+        ErrorResponse body = new ErrorResponse(
+                Instant.now().toString(),
+                status.value(),
+                status.getReasonPhrase(),
+                "File exceeds the upload limit",
+                getPath(request),
+                List.of()
+        );
         return ResponseEntity.status(status).body(body);
     }
 
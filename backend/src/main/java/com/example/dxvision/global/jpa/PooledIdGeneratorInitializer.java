@@ -0,0 +1,63 @@
+package com.example.dxvision.global.jpa;
+
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves each generator segment past the current max(id) of its table before the web server starts.
+ * Tables that were filled under IDENTITY (or rows inserted out of band) would otherwise collide
+ * with the first pooled block.
+ */
+@Component
+public class PooledIdGeneratorInitializer implements SmartInitializingSingleton {
+    private static final Logger log = LoggerFactory.getLogger(PooledIdGeneratorInitializer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PooledIdGeneratorInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (Map.Entry<String, String> entry : PooledIdGenerators.SEGMENT_TABLES.entrySet()) {
+            seed(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void seed(String segment, String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        // pooled optimizer hands out (next_val - ALLOCATION_SIZE, next_val]
+        long floor = (maxId == null ? 0 : maxId) + PooledIdGenerators.ALLOCATION_SIZE;
+
+        int updated = jdbcTemplate.update(
+                "UPDATE " + PooledIdGenerators.TABLE
+                        + " SET " + PooledIdGenerators.VALUE_COLUMN + " = ?"
+                        + " WHERE " + PooledIdGenerators.PK_COLUMN + " = ?"
+                        + " AND " + PooledIdGenerators.VALUE_COLUMN + " < ?",
+                floor, segment, floor
+        );
+        if (updated > 0) {
+            log.info("Advanced id generator {} to {}", segment, floor);
+            return;
+        }
+
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + PooledIdGenerators.TABLE + " WHERE " + PooledIdGenerators.PK_COLUMN + " = ?",
+                Integer.class,
+                segment
+        );
+        if (existing == null || existing == 0) {
+            jdbcTemplate.update(
+                    "INSERT INTO " + PooledIdGenerators.TABLE
+                            + " (" + PooledIdGenerators.PK_COLUMN + ", " + PooledIdGenerators.VALUE_COLUMN + ") VALUES (?, ?)",
+                    segment, floor
+            );
+            log.info("Initialized id generator {} at {}", segment, floor);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.dxvision.global.jpa;
+
+import java.util.Map;
+
+/**
+ * Table-backed pooled id generators for high-volume write paths.
+ * IDENTITY forces one round trip per INSERT and disables JDBC batching; a pooled table generator
+ * hands out ALLOCATION_SIZE ids per update and works the same on MySQL and H2.
+ */
+public final class PooledIdGenerators {
+    public static final String TABLE = "id_generators";
+    public static final String PK_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String ATTEMPTS = "attempts";
+    public static final String ATTEMPT_FINDING_ANSWERS = "attempt_finding_answers";
+    public static final String ATTEMPT_DIAGNOSIS_ANSWERS = "attempt_diagnosis_answers";
+    public static final String ATTEMPT_LOCATION_ANSWERS = "attempt_location_answers";
+    public static final String USER_CASE_PROGRESS = "user_case_progress";
+    public static final String USER_DAILY_ACTIVITY = "user_daily_activity";
+
+    /**
+     * Generator segment -> entity table, used to seed segments past existing ids.
+     */
+    static final Map<String, String> SEGMENT_TABLES = Map.of(
+            ATTEMPTS, "attempts",
+            ATTEMPT_FINDING_ANSWERS, "attempt_finding_answers",
+            ATTEMPT_DIAGNOSIS_ANSWERS, "attempt_diagnosis_answers",
+            ATTEMPT_LOCATION_ANSWERS, "attempt_location_answers",
+            USER_CASE_PROGRESS, "user_case_progress",
+            USER_DAILY_ACTIVITY, "user_daily_activity"
+    );
+
+    private PooledIdGenerators() {
+    }
+}
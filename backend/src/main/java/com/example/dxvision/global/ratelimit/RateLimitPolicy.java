@@ -0,0 +1,12 @@
+package com.example.dxvision.global.ratelimit;
+
+/**
+ * At most {@code maxRequests} per {@code windowMs} for each key; {@code name} namespaces the keys.
+ */
+public record RateLimitPolicy(String name, int maxRequests, long windowMs) {
+    public RateLimitPolicy {
+        if (maxRequests < 1 || windowMs < 1) {
+            throw new IllegalArgumentException("Rate limit must allow at least one request per positive window: " + name);
+        }
+    }
+}
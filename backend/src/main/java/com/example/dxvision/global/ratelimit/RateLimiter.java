@@ -0,0 +1,21 @@
+package com.example.dxvision.global.ratelimit;
+
+/**
+ * Rate limiter SPI. The default {@link SlidingWindowRateLimiter} is per-instance; a shared store
+ * (e.g. Redis) can replace it by registering another {@code @Primary} implementation.
+ */
+public interface RateLimiter {
+
+    /**
+     * Counts one request for {@code key} under {@code policy} if it still fits the budget.
+     */
+    Decision tryAcquire(RateLimitPolicy policy, String key);
+
+    record Decision(boolean allowed, long retryAfterMs) {
+        public static final Decision ALLOWED = new Decision(true, 0);
+
+        public static Decision rejected(long retryAfterMs) {
+            return new Decision(false, retryAfterMs);
+        }
+    }
+}
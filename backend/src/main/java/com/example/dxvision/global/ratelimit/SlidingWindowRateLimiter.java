@@ -0,0 +1,101 @@
+package com.example.dxvision.global.ratelimit;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory sliding-window counter: the previous fixed window is weighted by how much of it still
+ * overlaps the sliding window, so bursts at a window boundary cannot double the budget. Each key's
+ * state is an immutable {@link Window} swapped by CAS (no locks); keys are spread over stripes that
+ * are swept for idle entries only when they outgrow their share of {@code maxKeys}.
+ */
+@Component
+public class SlidingWindowRateLimiter implements RateLimiter {
+    private static final int STRIPES = 16;
+
+    private final Map<String, AtomicReference<Window>>[] stripes;
+    private final int maxKeysPerStripe;
+    private final Clock clock;
+
+    @Autowired
+    public SlidingWindowRateLimiter(@Value("${app.rate-limit.max-keys:100000}") int maxKeys) {
+        this(maxKeys, Clock.systemUTC());
+    }
+
+    @SuppressWarnings("unchecked")
+    SlidingWindowRateLimiter(int maxKeys, Clock clock) {
+        this.stripes = new Map[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.maxKeysPerStripe = Math.max(1, maxKeys / STRIPES);
+        this.clock = clock;
+    }
+
+    @Override
+    public Decision tryAcquire(RateLimitPolicy policy, String key) {
+        long now = clock.millis();
+        long windowMs = policy.windowMs();
+        long windowStart = now - Math.floorMod(now, windowMs);
+        String entryKey = policy.name() + ':' + key;
+        Map<String, AtomicReference<Window>> stripe = stripes[(entryKey.hashCode() & 0x7fffffff) % STRIPES];
+
+        AtomicReference<Window> ref = stripe.get(entryKey);
+        if (ref == null) {
+            if (stripe.size() >= maxKeysPerStripe) {
+                sweep(stripe, now);
+            }
+            ref = stripe.computeIfAbsent(entryKey, k -> new AtomicReference<>(new Window(windowStart, windowMs, 0, 0)));
+        }
+
+        while (true) {
+            Window current = ref.get();
+            Window rolled = current.rollTo(windowStart);
+            double previousWeight = 1.0 - (double) (now - windowStart) / windowMs;
+            double estimate = rolled.previous() * previousWeight + rolled.current();
+            if (estimate + 1 > policy.maxRequests()) {
+                if (rolled != current) {
+                    ref.compareAndSet(current, rolled);
+                }
+                return Decision.rejected(windowStart + windowMs - now);
+            }
+            if (ref.compareAndSet(current, rolled.increment())) {
+                return Decision.ALLOWED;
+            }
+        }
+    }
+
+    // 전체 창 두 개 이상 지난 키 제거, 그래도 넘치면 임의로 비움 (IP 예산이 여전히 적용됨)
+    private void sweep(Map<String, AtomicReference<Window>> stripe, long now) {
+        stripe.values().removeIf(ref -> ref.get().isIdle(now));
+        Iterator<String> keys = stripe.keySet().iterator();
+        while (stripe.size() >= maxKeysPerStripe && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private record Window(long start, long windowMs, int previous, int current) {
+        Window rollTo(long windowStart) {
+            if (start == windowStart) {
+                return this;
+            }
+            int carried = start == windowStart - windowMs ? current : 0;
+            return new Window(windowStart, windowMs, carried, 0);
+        }
+
+        Window increment() {
+            return new Window(start, windowMs, previous, current + 1);
+        }
+
+        boolean isIdle(long now) {
+            return now >= start + 2 * windowMs;
+        }
+    }
+}
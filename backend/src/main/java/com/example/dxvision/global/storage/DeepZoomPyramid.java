@@ -0,0 +1,35 @@
+package com.example.dxvision.global.storage;
+
+/**
+ * Deep Zoom (DZI) layout of a stored image: descriptor {@code <name>.dzi} and tiles under
+ * {@code <name>_files/<level>/<col>_<row>.jpg}, where level {@code maxLevel} is full resolution and
+ * each level below halves both sides down to 1x1 at level 0.
+ */
+public final class DeepZoomPyramid {
+    public static final int TILE_SIZE = 256;
+    // 인접 타일 경계 이음새 방지용 겹침 (OpenSeadragon 기본값)
+    public static final int OVERLAP = 1;
+    public static final String FORMAT = "jpg";
+
+    private DeepZoomPyramid() {
+    }
+
+    public static String descriptorName(String original) {
+        return baseName(original) + ".dzi";
+    }
+
+    public static String tilesDirName(String original) {
+        return baseName(original) + "_files";
+    }
+
+    public static int maxLevel(int width, int height) {
+        int longest = Math.max(width, height);
+        return longest <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(longest - 1);
+    }
+
+    private static String baseName(String original) {
+        int slash = original.lastIndexOf('/');
+        int dot = original.lastIndexOf('.');
+        return dot > slash ? original.substring(0, dot) : original;
+    }
+}
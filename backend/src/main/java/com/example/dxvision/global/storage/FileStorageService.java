@@ -1,24 +1,104 @@
 package com.example.dxvision.global.storage;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
 import org.springframework.util.StringUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
+/**
+ * Stores uploads under {@code app.upload.dir}. In content-addressed mode (default) the file is hashed
+ * with SHA-256 while it streams to a temp file and then renamed to {@code sha256/<2>/<2>/<hash><ext>},
+ * so identical uploads share one blob and a URL never changes content. Otherwise each upload gets a
+ * random UUID name. Deletion skips anything a {@link StoredFileReferences} still reports as in use,
+ * runs after the surrounding transaction commits, and keeps blobs written or deduplicated within
+ * {@code app.upload.delete-grace-period}, since an in-flight or staged upload of the same bytes has no
+ * committed reference yet. A periodic sweep removes unreferenced blobs once they are past that period,
+ * so deletes skipped inside it (failed saves, quick replacements, staged uploads never attached) are
+ * not left behind.
+ */
 @Service
 public class FileStorageService {
+    private static final Logger log = LoggerFactory.getLogger(FileStorageService.class);
+    private static final String BLOB_DIR = "sha256";
+    private static final Pattern SAFE_EXTENSION = Pattern.compile("\\.[a-z0-9]{1,10}");
+    private static final Pattern BLOB_NAME = Pattern.compile("[0-9a-f]{64}(\\.[a-z0-9]{1,10})?");
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private final Path uploadDir;
+    private final Path incomingDir;
+    private final boolean contentAddressed;
+    private final long maxBytes;
+    private final Duration deleteGracePeriod;
+    private final List<StoredFileReferences> references;
+    private final MeterRegistry meterRegistry;
+    private final Counter storedCounter;
+    private final Counter deduplicatedCounter;
 
-    public FileStorageService(@Value("${app.upload.dir:uploads}") String uploadDir) {
+    public FileStorageService(
+            @Value("${app.upload.dir:uploads}") String uploadDir,
+            @Value("${app.upload.content-addressed:true}") boolean contentAddressed,
+            @Value("${app.upload.max-size:50MB}") DataSize maxSize,
+            @Value("${app.upload.delete-grace-period:1h}") Duration deleteGracePeriod,
+            List<StoredFileReferences> references,
+            MeterRegistry meterRegistry
+    ) {
         this.uploadDir = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.incomingDir = this.uploadDir.resolve(".incoming");
+        this.contentAddressed = contentAddressed;
+        this.maxBytes = maxSize.toBytes();
+        this.deleteGracePeriod = deleteGracePeriod;
+        this.references = references;
+        this.meterRegistry = meterRegistry;
+        this.storedCounter = Counter.builder("dxvision.upload.stored")
+                .tag("result", "new")
+                .description("Uploads written as new files")
+                .register(meterRegistry);
+        this.deduplicatedCounter = Counter.builder("dxvision.upload.stored")
+                .tag("result", "deduplicated")
+                .description("Uploads whose content already existed as a blob")
+                .register(meterRegistry);
         try {
             Files.createDirectories(this.uploadDir);
+            Files.createDirectories(this.incomingDir);
         } catch (IOException e) {
             throw new IllegalStateException("Could not create upload directory", e);
         }
@@ -28,6 +108,9 @@ public class FileStorageService {
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("File is empty");
         }
+        if (file.getSize() > maxBytes) {
+            throw tooLarge();
+        }
 
         String originalFilename = StringUtils.cleanPath(file.getOriginalFilename() == null ? "" : file.getOriginalFilename());
         String extension = "";
@@ -35,27 +118,283 @@ public class FileStorageService {
         if (dotIndex >= 0) {
             extension = originalFilename.substring(dotIndex);
         }
-        String storedName = UUID.randomUUID() + extension;
-        Path destination = uploadDir.resolve(storedName);
-
-        try {
-            Files.copy(file.getInputStream(), destination, StandardCopyOption.REPLACE_EXISTING);
+        try (InputStream in = file.getInputStream()) {
+            return write(in, extension, file.getContentType(), "multipart").url();
         } catch (IOException e) {
             throw new IllegalStateException("Failed to store file", e);
         }
+    }
+
+    /**
+     * Writes a raw request body straight into the store. The declared length is checked before reading,
+     * the format is sniffed from the first bytes (the client's Content-Type only has to agree with it),
+     * and the size limit is enforced again while streaming since the length may be absent or wrong.
+     */
+    public StoredUpload storeStream(InputStream in, long declaredLength, String declaredType) throws IOException {
+        if (declaredLength > maxBytes) {
+            throw tooLarge();
+        }
+        byte[] head = in.readNBytes(UploadMediaType.SNIFF_BYTES);
+        if (head.length == 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "File is empty");
+        }
+        UploadMediaType type = UploadMediaType.sniff(head)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "Unsupported image format"));
+        if (!declaredTypeMatches(declaredType, type)) {
+            throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "Content-Type does not match image data");
+        }
+        return write(new SequenceInputStream(new ByteArrayInputStream(head), in),
+                type.extension(), type.mediaType().toString(), "stream");
+    }
 
-        return "/uploads/" + storedName;
+    /**
+     * Single copy into a temp file in the upload dir (hashing as it goes), then a rename into place.
+     */
+    private StoredUpload write(InputStream in, String extension, String contentType, String source) throws IOException {
+        String normalizedExtension = extension.toLowerCase(Locale.ROOT);
+        if (!SAFE_EXTENSION.matcher(normalizedExtension).matches()) {
+            normalizedExtension = "";
+        }
+        long startedAt = System.nanoTime();
+        String outcome = "failed";
+        long size = 0;
+        Path temp = Files.createTempFile(incomingDir, "upload-", ".tmp");
+        try {
+            MessageDigest digest = newSha256();
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxBytes) {
+                        outcome = "rejected";
+                        throw tooLarge();
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+            String relative;
+            if (contentAddressed) {
+                String hash = HexFormat.of().formatHex(digest.digest());
+                relative = BLOB_DIR + "/" + hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/"
+                        + hash + normalizedExtension;
+            } else {
+                relative = UUID.randomUUID() + normalizedExtension;
+            }
+            Path destination = uploadDir.resolve(relative);
+            if (refreshIfExists(destination)) {
+                deduplicatedCounter.increment();
+            } else {
+                Files.createDirectories(destination.getParent());
+                // 같은 내용을 동시에 올려도 rename 결과는 동일
+                Files.move(temp, destination, StandardCopyOption.ATOMIC_MOVE);
+                storedCounter.increment();
+            }
+            outcome = "stored";
+            return new StoredUpload("/uploads/" + relative, contentType, size);
+        } finally {
+            Files.deleteIfExists(temp);
+            recordTransfer(source, outcome, size, System.nanoTime() - startedAt);
+        }
     }
 
-    public void deleteIfLocal(String imageUrl) {
+    // 중복 업로드도 mtime 을 갱신해 삭제 유예 시간 동안 보호
+    private static boolean refreshIfExists(Path destination) throws IOException {
+        try {
+            Files.setLastModifiedTime(destination, FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException ex) {
+            return false;
+        }
+    }
+
+    // 바이트 카운터의 rate 가 전체 처리량, throughput 분포는 업로드별 (느린 클라이언트 식별용)
+    private void recordTransfer(String source, String outcome, long bytes, long elapsedNanos) {
+        Timer.builder("dxvision.upload.duration")
+                .tag("source", source)
+                .tag("outcome", outcome)
+                .description("Time spent receiving and storing uploads")
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        Counter.builder("dxvision.upload.bytes")
+                .tag("source", source)
+                .baseUnit("bytes")
+                .description("Upload bytes received")
+                .register(meterRegistry)
+                .increment(bytes);
+        if ("stored".equals(outcome) && elapsedNanos > 0) {
+            DistributionSummary.builder("dxvision.upload.throughput")
+                    .tag("source", source)
+                    .baseUnit("bytes/second")
+                    .description("Per-upload transfer rate")
+                    .register(meterRegistry)
+                    .record(bytes * 1_000_000_000d / elapsedNanos);
+        }
+    }
+
+    private static boolean declaredTypeMatches(String declaredType, UploadMediaType type) {
+        if (!StringUtils.hasText(declaredType)) {
+            return true;
+        }
+        try {
+            MediaType declared = MediaType.parseMediaType(declaredType);
+            return MediaType.APPLICATION_OCTET_STREAM.equalsTypeAndSubtype(declared)
+                    || declared.isCompatibleWith(type.mediaType());
+        } catch (InvalidMediaTypeException ex) {
+            return false;
+        }
+    }
+
+    private ResponseStatusException tooLarge() {
+        return new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                "File exceeds the " + DataSize.ofBytes(maxBytes).toMegabytes() + "MB upload limit");
+    }
+
+    /**
+     * True when the URL names an existing upload (original, not a hidden/temp path).
+     */
+    public boolean isStored(String url) {
+        return url != null && !url.contains("/.")
+                && resolveLocal(url).filter(Files::isRegularFile).isPresent();
+    }
+
+    /**
+     * Path of a stored upload, or empty for external URLs and anything resolving outside the upload dir.
+     */
+    public Optional<Path> resolveLocal(String imageUrl) {
         if (imageUrl == null || !imageUrl.startsWith("/uploads/")) {
+            return Optional.empty();
+        }
+        Path filePath = uploadDir.resolve(imageUrl.substring("/uploads/".length())).normalize();
+        return filePath.startsWith(uploadDir) ? Optional.of(filePath) : Optional.empty();
+    }
+
+    /**
+     * Strong validator for files in the blob tree: the path below the shard dirs, which starts with the
+     * content hash of the blob (renditions and tiles are derived from it deterministically). Empty for
+     * UUID-named uploads.
+     */
+    public Optional<String> contentKey(Path file) {
+        Path blobRoot = uploadDir.resolve(BLOB_DIR);
+        if (!file.startsWith(blobRoot)) {
+            return Optional.empty();
+        }
+        Path relative = blobRoot.relativize(file);
+        if (relative.getNameCount() < 3) {
+            return Optional.empty();
+        }
+        return Optional.of(relative.subpath(2, relative.getNameCount()).toString().replace('\\', '/'));
+    }
+
+    /**
+     * Removes a local upload and its derivatives unless it is still referenced. Inside a transaction the
+     * check and delete run after commit, so a rollback never leaves a row pointing at a deleted file.
+     */
+    public void deleteIfLocal(String imageUrl) {
+        if (resolveLocal(imageUrl).isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deleteUnreferenced(imageUrl);
+                }
+            });
+            return;
+        }
+        deleteUnreferenced(imageUrl);
+    }
+
+    /**
+     * Deletes every blob that no {@link StoredFileReferences} claims and that was last written before the
+     * grace period. Renditions, descriptors and tile dirs are removed with their blob, never on their own.
+     */
+    @Scheduled(
+            initialDelayString = "${app.upload.sweep-interval-ms:3600000}",
+            fixedDelayString = "${app.upload.sweep-interval-ms:3600000}"
+    )
+    public void sweepUnreferenced() {
+        Path blobRoot = uploadDir.resolve(BLOB_DIR);
+        if (!Files.isDirectory(blobRoot)) {
+            return;
+        }
+        List<Path> blobs;
+        try (Stream<Path> files = Files.find(blobRoot, 3, (path, attributes) -> attributes.isRegularFile()
+                && isBlobName(path.getFileName().toString()))) {
+            blobs = files.toList();
+        } catch (IOException ex) {
+            log.warn("Could not scan {} for unreferenced uploads", blobRoot, ex);
             return;
         }
+        int deleted = 0;
+        for (Path blob : blobs) {
+            if (isWithinGracePeriod(blob)) {
+                continue;
+            }
+            if (deleteUnreferenced("/uploads/" + uploadDir.relativize(blob).toString().replace('\\', '/'))) {
+                deleted++;
+            }
+        }
+        if (deleted > 0) {
+            log.info("Deleted {} unreferenced uploads older than {}", deleted, deleteGracePeriod);
+        }
+    }
+
+    // 원본만 대상: 파생 파일(_thumb.jpg 등, .dzi)은 원본과 함께 삭제
+    private static boolean isBlobName(String name) {
+        return BLOB_NAME.matcher(name).matches() && !name.endsWith(".dzi");
+    }
+
+    /**
+     * Immediate form of {@link #deleteIfLocal}, against the currently visible references.
+     *
+     * @return true when the upload was deleted
+     */
+    public boolean deleteUnreferenced(String imageUrl) {
+        Optional<Path> local = resolveLocal(imageUrl);
+        if (local.isEmpty()) {
+            return false;
+        }
+        if (references.stream().anyMatch(ref -> ref.isReferenced(imageUrl))) {
+            log.debug("Keeping {}: still referenced", imageUrl);
+            return false;
+        }
+        if (contentKey(local.get()).isPresent() && isWithinGracePeriod(local.get())) {
+            log.debug("Keeping {}: written within the delete grace period", imageUrl);
+            return false;
+        }
+        Path filePath = local.get();
         try {
-            Path filePath = uploadDir.resolve(imageUrl.replaceFirst("^/uploads/", ""));
-            Files.deleteIfExists(filePath);
+            String name = filePath.getFileName().toString();
+            boolean deleted = Files.deleteIfExists(filePath);
+            for (ImageRendition rendition : ImageRendition.values()) {
+                Files.deleteIfExists(filePath.resolveSibling(rendition.derivedName(name)));
+            }
+            Files.deleteIfExists(filePath.resolveSibling(DeepZoomPyramid.descriptorName(name)));
+            FileSystemUtils.deleteRecursively(filePath.resolveSibling(DeepZoomPyramid.tilesDirName(name)));
+            return deleted;
         } catch (IOException ignored) {
             // Best-effort cleanup
+            return false;
+        }
+    }
+
+    private boolean isWithinGracePeriod(Path file) {
+        try {
+            Instant modified = Files.getLastModifiedTime(file).toInstant();
+            return modified.isAfter(Instant.now().minus(deleteGracePeriod));
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 }
@@ -0,0 +1,239 @@
+package com.example.dxvision.global.storage;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Writes every {@link ImageRendition} and the {@link DeepZoomPyramid} tiles of a source image with
+ * javax.imageio. Everything is written under a temp name and moved into place (tiles as one directory,
+ * the .dzi descriptor last), so a reader never sees a half-written rendition or pyramid. Stored names are
+ * never reused for different content, so a pyramid whose descriptor exists is complete and is never
+ * rewritten: replacing its tiles in place would briefly 404 tiles that clients cache as immutable. The source
+ * dimensions are read from the header first and images above {@code app.image.derivatives.max-pixels}
+ * are rejected before decoding, since the full raster (plus its RGB copy) is held in memory.
+ */
+@Component
+public class ImageDerivativeGenerator {
+    private final float jpegQuality;
+    private final long maxPixels;
+
+    public ImageDerivativeGenerator(
+            @Value("${app.image.derivatives.jpeg-quality:0.85}") float jpegQuality,
+            @Value("${app.image.derivatives.max-pixels:40000000}") long maxPixels
+    ) {
+        this.jpegQuality = jpegQuality;
+        this.maxPixels = maxPixels;
+    }
+
+    public void generate(Path source) throws IOException {
+        if (isComplete(source)) {
+            return;
+        }
+        BufferedImage rgb = toRgb(decode(source));
+        String name = source.getFileName().toString();
+        Path descriptor = source.resolveSibling(DeepZoomPyramid.descriptorName(name));
+        if (!Files.exists(descriptor)) {
+            // 디스크립터가 없으면 남아 있는 타일 디렉터리는 중단된 이전 작업의 것이므로 교체해도 됨
+            writePyramid(rgb, source.resolveSibling(DeepZoomPyramid.tilesDirName(name)));
+            writeDescriptor(rgb, descriptor);
+        }
+
+        BufferedImage current = rgb;
+        // 큰 것부터 줄여 가며 다음 단계의 입력으로 재사용
+        for (int i = ImageRendition.values().length - 1; i >= 0; i--) {
+            ImageRendition rendition = ImageRendition.values()[i];
+            current = downscale(current, rendition.maxEdge());
+            Path target = source.resolveSibling(rendition.derivedName(name));
+            writeJpegAtomically(current, target);
+        }
+    }
+
+    /**
+     * Derivatives depend only on the source content, so a source with every rendition and a pyramid
+     * descriptor in place (e.g. a deduplicated blob shared with another case) needs no work.
+     */
+    public boolean isComplete(Path source) {
+        String name = source.getFileName().toString();
+        if (!Files.exists(source.resolveSibling(DeepZoomPyramid.descriptorName(name)))) {
+            return false;
+        }
+        for (ImageRendition rendition : ImageRendition.values()) {
+            if (!Files.exists(source.resolveSibling(rendition.derivedName(name)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private BufferedImage decode(Path source) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IOException("Image too large: " + width + "x" + height
+                            + " exceeds " + maxPixels + " pixels");
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private void writePyramid(BufferedImage image, Path tilesDir) throws IOException {
+        Path temp = Files.createTempDirectory(tilesDir.getParent(), ".tiles-");
+        try {
+            int maxLevel = DeepZoomPyramid.maxLevel(image.getWidth(), image.getHeight());
+            BufferedImage level = image;
+            for (int l = maxLevel; l >= 0; l--) {
+                if (l < maxLevel) {
+                    // 레벨마다 가로/세로 절반 (올림)
+                    level = resize(level, (level.getWidth() + 1) / 2, (level.getHeight() + 1) / 2);
+                }
+                writeTiles(level, Files.createDirectory(temp.resolve(Integer.toString(l))));
+            }
+            FileSystemUtils.deleteRecursively(tilesDir);
+            Files.move(temp, tilesDir, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            FileSystemUtils.deleteRecursively(temp);
+        }
+    }
+
+    private void writeTiles(BufferedImage level, Path levelDir) throws IOException {
+        int size = DeepZoomPyramid.TILE_SIZE;
+        int overlap = DeepZoomPyramid.OVERLAP;
+        for (int col = 0; col * size < level.getWidth(); col++) {
+            for (int row = 0; row * size < level.getHeight(); row++) {
+                int x = Math.max(0, col * size - overlap);
+                int y = Math.max(0, row * size - overlap);
+                int right = Math.min(level.getWidth(), (col + 1) * size + overlap);
+                int bottom = Math.min(level.getHeight(), (row + 1) * size + overlap);
+                Path target = levelDir.resolve(col + "_" + row + "." + DeepZoomPyramid.FORMAT);
+                writeJpeg(level.getSubimage(x, y, right - x, bottom - y), target);
+            }
+        }
+    }
+
+    private static void writeDescriptor(BufferedImage image, Path target) throws IOException {
+        String xml = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <Image xmlns="http://schemas.microsoft.com/deepzoom/2008" TileSize="%d" Overlap="%d" Format="%s">
+                  <Size Width="%d" Height="%d"/>
+                </Image>
+                """.formatted(
+                DeepZoomPyramid.TILE_SIZE,
+                DeepZoomPyramid.OVERLAP,
+                DeepZoomPyramid.FORMAT,
+                image.getWidth(),
+                image.getHeight()
+        );
+        Path temp = Files.createTempFile(target.getParent(), ".dzi-", ".tmp");
+        try {
+            Files.writeString(temp, xml, StandardCharsets.UTF_8);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // JPEG 은 알파 채널이 없으므로 흰 배경에 합성
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, image.getWidth(), image.getHeight());
+            g.drawImage(image, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return rgb;
+    }
+
+    /**
+     * Halves with bilinear filtering until within 2x of the target, then does one final step; a single
+     * large bilinear step would skip source pixels and alias fine detail.
+     */
+    private static BufferedImage downscale(BufferedImage image, int maxEdge) {
+        int longest = Math.max(image.getWidth(), image.getHeight());
+        if (longest <= maxEdge) {
+            return image;
+        }
+        double scale = (double) maxEdge / longest;
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = resize(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static BufferedImage resize(BufferedImage image, int width, int height) {
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = resized.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return resized;
+    }
+
+    private void writeJpegAtomically(BufferedImage image, Path target) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), ".rendition-", ".tmp");
+        try {
+            writeJpeg(image, temp);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
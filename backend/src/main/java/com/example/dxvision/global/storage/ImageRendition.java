@@ -0,0 +1,33 @@
+package com.example.dxvision.global.storage;
+
+/**
+ * Resized JPEG copies stored next to an uploaded image as {@code <name>_<suffix>.jpg}.
+ * {@code maxEdge} bounds the longer side; smaller sources are re-encoded without upscaling.
+ */
+public enum ImageRendition {
+    THUMBNAIL("thumb", 320),
+    MEDIUM("medium", 1280),
+    FULL("full", 2560);
+
+    private final String suffix;
+    private final int maxEdge;
+
+    ImageRendition(String suffix, int maxEdge) {
+        this.suffix = suffix;
+        this.maxEdge = maxEdge;
+    }
+
+    public int maxEdge() {
+        return maxEdge;
+    }
+
+    /**
+     * Same naming for file names and URLs: everything up to the original extension is kept.
+     */
+    public String derivedName(String original) {
+        int slash = original.lastIndexOf('/');
+        int dot = original.lastIndexOf('.');
+        String base = dot > slash ? original.substring(0, dot) : original;
+        return base + "_" + suffix + ".jpg";
+    }
+}
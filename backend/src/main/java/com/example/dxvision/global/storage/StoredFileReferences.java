@@ -0,0 +1,9 @@
+package com.example.dxvision.global.storage;
+
+/**
+ * Tells {@link FileStorageService} whether a stored URL is still in use. Content-addressed blobs are
+ * shared by every upload with the same bytes, so a blob may only be removed once nothing refers to it.
+ */
+public interface StoredFileReferences {
+    boolean isReferenced(String url);
+}
@@ -0,0 +1,8 @@
+package com.example.dxvision.global.storage;
+
+public record StoredUpload(
+        String url,
+        String contentType,
+        long size
+) {
+}
@@ -0,0 +1,53 @@
+package com.example.dxvision.global.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+import org.springframework.http.MediaType;
+
+/**
+ * Image formats accepted by the streaming upload path, recognised by their leading magic bytes rather
+ * than by the client's Content-Type or file name.
+ */
+public enum UploadMediaType {
+    PNG(MediaType.IMAGE_PNG, ".png", 0, new byte[] {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'}),
+    JPEG(MediaType.IMAGE_JPEG, ".jpg", 0, new byte[] {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}),
+    GIF(MediaType.IMAGE_GIF, ".gif", 0, "GIF8".getBytes(StandardCharsets.US_ASCII)),
+    // RIFF....WEBP
+    WEBP(MediaType.parseMediaType("image/webp"), ".webp", 8, "WEBP".getBytes(StandardCharsets.US_ASCII));
+
+    /**
+     * Bytes that must be read before {@link #sniff} can decide.
+     */
+    public static final int SNIFF_BYTES = 12;
+
+    private final MediaType mediaType;
+    private final String extension;
+    private final int offset;
+    private final byte[] magic;
+
+    UploadMediaType(MediaType mediaType, String extension, int offset, byte[] magic) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+        this.offset = offset;
+        this.magic = magic;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static Optional<UploadMediaType> sniff(byte[] head) {
+        for (UploadMediaType type : values()) {
+            int end = type.offset + type.magic.length;
+            if (head.length >= end && Arrays.equals(head, type.offset, end, type.magic, 0, type.magic.length)) {
+                return Optional.of(type);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -3,36 +3,68 @@ package com.example.dxvision;
 import com.example.dxvision.domain.auth.Role;
 import com.example.dxvision.domain.auth.User;
 import com.example.dxvision.domain.auth.dto.LoginRequest;
+import com.example.dxvision.domain.casefile.DerivativeStatus;
 import com.example.dxvision.domain.casefile.Diagnosis;
 import com.example.dxvision.domain.casefile.Finding;
+import com.example.dxvision.domain.casefile.ImageCase;
+import com.example.dxvision.domain.casefile.LesionShapeType;
 import com.example.dxvision.domain.casefile.Modality;
 import com.example.dxvision.domain.casefile.Species;
+import com.example.dxvision.domain.casefile.service.CaseImageDerivativeService;
 import com.example.dxvision.domain.repository.CaseDiagnosisRepository;
 import com.example.dxvision.domain.repository.CaseFindingRepository;
 import com.example.dxvision.domain.repository.DiagnosisRepository;
 import com.example.dxvision.domain.repository.FindingRepository;
+import com.example.dxvision.domain.progress.UserCaseProgress;
+import com.example.dxvision.domain.progress.UserCaseStatus;
+import com.example.dxvision.domain.progress.UserStats;
 import com.example.dxvision.domain.repository.ImageCaseRepository;
+import com.example.dxvision.domain.repository.UserCaseProgressRepository;
 import com.example.dxvision.domain.repository.UserRepository;
+import com.example.dxvision.domain.repository.UserStatsRepository;
+import com.example.dxvision.global.storage.DeepZoomPyramid;
+import com.example.dxvision.global.storage.FileStorageService;
+import com.example.dxvision.global.storage.ImageRendition;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import javax.imageio.ImageIO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -68,6 +100,21 @@ class AdminApiIntegrationTest {
     @Autowired
     private ImageCaseRepository imageCaseRepository;
 
+    @Autowired
+    private UserCaseProgressRepository userCaseProgressRepository;
+
+    @Autowired
+    private UserStatsRepository userStatsRepository;
+
+    @Autowired
+    private CaseImageDerivativeService caseImageDerivativeService;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @BeforeEach
     void cleanDatabase() {
         caseDiagnosisRepository.deleteAll();
@@ -86,6 +133,320 @@ class AdminApiIntegrationTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    void disablingUserRevokesExistingTokenImmediately() throws Exception {
+        String adminToken = createUserAndLogin(Role.ADMIN);
+        String userToken = createUserAndLogin(Role.USER);
+        Long userId = userRepository.findByEmail("user+user@example.com").orElseThrow().getId();
+
+        mockMvc.perform(get("/api/v1/auth/me").header("Authorization", bearer(userToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(userId))
+                .andExpect(jsonPath("$.role").value("USER"));
+
+        mockMvc.perform(patch("/api/v1/admin/users/{id}", userId)
+                        .header("Authorization", bearer(adminToken))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"DISABLED\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/auth/me").header("Authorization", bearer(userToken)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void adminListsUserCaseProgressPagedWithStatusFilter() throws Exception {
+        String adminToken = createUserAndLogin(Role.ADMIN);
+        createUserAndLogin(Role.USER);
+        User user = userRepository.findByEmail("user+user@example.com").orElseThrow();
+        ImageCase alpha = imageCaseRepository.save(sampleCase("Alpha"));
+        imageCaseRepository.save(sampleCase("Bravo"));
+        imageCaseRepository.save(sampleCase("Charlie"));
+        userCaseProgressRepository.save(new UserCaseProgress(user, alpha, UserCaseStatus.WRONG));
+
+        mockMvc.perform(get("/api/v1/admin/users/{id}/cases", user.getId())
+                        .param("size", "2")
+                        .param("sort", "title,desc")
+                        .header("Authorization", bearer(adminToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].caseTitle").value("Charlie"))
+                .andExpect(jsonPath("$.content[0].status").value("UNSEEN"))
+                .andExpect(jsonPath("$.content[0].attemptCount").value(0));
+
+        mockMvc.perform(get("/api/v1/admin/users/{id}/cases", user.getId())
+                        .param("status", "WRONG")
+                        .header("Authorization", bearer(adminToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].caseId").value(alpha.getId()))
+                .andExpect(jsonPath("$.content[0].status").value("WRONG"));
+
+        mockMvc.perform(get("/api/v1/admin/users/{id}/cases", user.getId())
+                        .param("status", "UNSEEN")
+                        .header("Authorization", bearer(adminToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2));
+
+        mockMvc.perform(get("/api/v1/admin/users/{id}/cases", user.getId())
+                        .param("sort", "description")
+                        .header("Authorization", bearer(adminToken)))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/admin/users/{id}", user.getId())
+                        .header("Authorization", bearer(adminToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.caseProgress.length()").value(3))
+                .andExpect(jsonPath("$.caseProgress[0].caseTitle").value("Alpha"))
+                .andExpect(jsonPath("$.caseProgressTotal").value(3));
+    }
+
+    @Test
+    void adminUserListSortsByMaterialisedStatsAndSearchesByPrefix() throws Exception {
+        String adminToken = createUserAndLogin(Role.ADMIN);
+        User alice = userRepository.save(new User("alice@example.com", "x", "Alice Kim", Role.USER));
+        User bob = userRepository.save(new User("bob@example.com", "x", "Bob Lee", Role.USER));
+        UserStats bobStats = new UserStats(bob);
+        bobStats.recordAttempts(5, Instant.now());
+        userStatsRepository.save(bobStats);
+        UserStats aliceStats = new UserStats(alice);
+        aliceStats.recordAttempts(1, Instant.now().minus(Duration.ofDays(3)));
+        userStatsRepository.save(aliceStats);
+
+        mockMvc.perform(get("/api/v1/admin/users")
+                        .param("sort", "attemptedCount,desc")
+                        .header("Authorization", bearer(adminToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.content[0].email").value("bob@example.com"))
+                .andExpect(jsonPath("$.content[0].stats.attemptedCount").value(5))
+                .andExpect(jsonPath("$.content[1].email").value("alice@example.com"));
+
+        // 가장 오래 활동하지 않은 사용자 순: 시도 없는 관리자 → alice → bob
+        mockMvc.perform(get("/api/v1/admin/users")
+                        .param("sort", "lastActiveAt,asc")
+                        .header("Authorization", bearer(adminToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].email").value("user+admin@example.com"))
+                .andExpect(jsonPath("$.content[0].stats.attemptedCount").value(0))
+                .andExpect(jsonPath("$.content[1].email").value("alice@example.com"))
+                .andExpect(jsonPath("$.content[2].email").value("bob@example.com"));
+
+        mockMvc.perform(get("/api/v1/admin/users")
+                        .param("q", "BOB")
+                        .header("Authorization", bearer(adminToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].name").value("Bob Lee"));
+
+        mockMvc.perform(get("/api/v1/admin/users")
+                        .param("q", "alice k")
+                        .header("Authorization", bearer(adminToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].email").value("alice@example.com"));
+
+        mockMvc.perform(get("/api/v1/admin/users")
+                        .param("q", "%")
+                        .header("Authorization", bearer(adminToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0));
+
+        mockMvc.perform(get("/api/v1/admin/users")
+                        .param("sort", "password")
+                        .header("Authorization", bearer(adminToken)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void caseImageRenditionsAreGeneratedAndExposed() throws Exception {
+        String token = createUserAndLogin(Role.ADMIN);
+        BufferedImage source = new BufferedImage(1600, 1200, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(source, "png", png);
+
+        JsonNode created = objectMapper.readTree(mockMvc.perform(multipart("/api/v1/admin/cases")
+                        .file(new MockMultipartFile("image", "scan.png", MediaType.IMAGE_PNG_VALUE, png.toByteArray()))
+                        .param("title", "Rendition Case")
+                        .param("modality", Modality.XRAY.name())
+                        .param("species", Species.DOG.name())
+                        .param("lesionCx", "0.5")
+                        .param("lesionCy", "0.5")
+                        .header("Authorization", bearer(token)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.derivativeStatus").value("PENDING"))
+                .andReturn().getResponse().getContentAsString());
+        long caseId = created.get("id").asLong();
+        String imageUrl = created.get("imageUrl").asText();
+
+        // 커밋 후 비동기 작업 대신 동일 처리를 직접 실행
+        assertThat(caseImageDerivativeService.process(caseId, imageUrl)).isEqualTo(DerivativeStatus.READY);
+
+        Path original = fileStorageService.resolveLocal(imageUrl).orElseThrow();
+        BufferedImage thumbnail = ImageIO.read(
+                original.resolveSibling(ImageRendition.THUMBNAIL.derivedName(original.getFileName().toString())).toFile());
+        assertThat(thumbnail.getWidth()).isEqualTo(320);
+        assertThat(thumbnail.getHeight()).isEqualTo(240);
+        BufferedImage full = ImageIO.read(
+                original.resolveSibling(ImageRendition.FULL.derivedName(original.getFileName().toString())).toFile());
+        assertThat(full.getWidth()).isEqualTo(1600);
+
+        // 1600x1200 → 최대 레벨 11, 256px 타일 7x5, 가장자리 타일은 overlap 1px 포함
+        Path tiles = original.resolveSibling(DeepZoomPyramid.tilesDirName(original.getFileName().toString()));
+        BufferedImage cornerTile = ImageIO.read(tiles.resolve("11").resolve("6_4.jpg").toFile());
+        assertThat(cornerTile.getWidth()).isEqualTo(1600 - (6 * 256 - 1));
+        assertThat(cornerTile.getHeight()).isEqualTo(1200 - (4 * 256 - 1));
+        assertThat(tiles.resolve("11").resolve("7_0.jpg")).doesNotExist();
+        assertThat(ImageIO.read(tiles.resolve("0").resolve("0_0.jpg").toFile()).getWidth()).isEqualTo(1);
+
+        String thumbnailUrl = ImageRendition.THUMBNAIL.derivedName(imageUrl);
+        String tileSourceUrl = DeepZoomPyramid.descriptorName(imageUrl);
+        mockMvc.perform(get("/api/v1/cases/{id}", caseId).header("Authorization", bearer(token)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.renditions.thumbnailUrl").value(thumbnailUrl))
+                .andExpect(jsonPath("$.renditions.mediumUrl").value(ImageRendition.MEDIUM.derivedName(imageUrl)))
+                .andExpect(jsonPath("$.renditions.tileSourceUrl").value(tileSourceUrl));
+        mockMvc.perform(get(tileSourceUrl))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_XML))
+                .andExpect(content().string(containsString("<Size Width=\"1600\" Height=\"1200\"/>")));
+        mockMvc.perform(get("/api/v1/cases").header("Authorization", bearer(token)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].thumbnailUrl").value(thumbnailUrl));
+
+        // 케이스가 아직 참조 중이므로 삭제 요청은 무시됨
+        fileStorageService.deleteIfLocal(imageUrl);
+        assertThat(original).exists();
+        assertThat(tiles).exists();
+    }
+
+    @Test
+    void identicalUploadsShareOneBlobUntilTheLastReferenceIsReplaced() throws Exception {
+        String token = createUserAndLogin(Role.ADMIN);
+        byte[] shared = pngBytes(64, 48, (int) System.nanoTime());
+
+        JsonNode first = createCaseWithImage(token, "Shared A", "a.PNG", shared);
+        JsonNode second = createCaseWithImage(token, "Shared B", "b.png", shared);
+        long firstId = first.get("id").asLong();
+        long secondId = second.get("id").asLong();
+        String firstUrl = first.get("imageUrl").asText();
+
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(shared));
+        assertThat(firstUrl).isEqualTo("/uploads/sha256/" + hash.substring(0, 2) + "/" + hash.substring(2, 4)
+                + "/" + hash + ".png");
+        assertThat(second.get("imageUrl").asText()).isEqualTo(firstUrl);
+
+        Path blob = fileStorageService.resolveLocal(firstUrl).orElseThrow();
+        assertThat(caseImageDerivativeService.process(secondId, firstUrl)).isEqualTo(DerivativeStatus.READY);
+        Path thumbnail = blob.resolveSibling(ImageRendition.THUMBNAIL.derivedName(blob.getFileName().toString()));
+        assertThat(thumbnail).exists();
+
+        // B 가 아직 같은 blob 을 가리키므로 유지 (커밋 후 정리는 직접 실행)
+        replaceCaseImage(token, firstId, "Shared A", pngBytes(32, 32, (int) System.nanoTime() + 1));
+        fileStorageService.deleteUnreferenced(firstUrl);
+        assertThat(blob).exists();
+
+        // 트랜잭션 안에서는 커밋 전까지 삭제하지 않음
+        replaceCaseImage(token, secondId, "Shared B", pngBytes(32, 32, (int) System.nanoTime() + 2));
+        assertThat(blob).exists();
+        fileStorageService.deleteUnreferenced(firstUrl);
+        assertThat(blob).doesNotExist();
+        assertThat(thumbnail).doesNotExist();
+    }
+
+    @Test
+    void streamedUploadIsSniffedSizeLimitedAndUsableForCaseCreate() throws Exception {
+        String token = createUserAndLogin(Role.ADMIN);
+        byte[] png = pngBytes(40, 30, (int) System.nanoTime());
+        double streamedBefore = meterRegistry.counter("dxvision.upload.bytes", "source", "stream").count();
+
+        JsonNode uploaded = objectMapper.readTree(mockMvc.perform(post("/api/v1/admin/uploads")
+                        .contentType(MediaType.IMAGE_PNG)
+                        .content(png)
+                        .header("Authorization", bearer(token)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.contentType").value(MediaType.IMAGE_PNG_VALUE))
+                .andExpect(jsonPath("$.size").value(png.length))
+                .andReturn().getResponse().getContentAsString());
+        String imageUrl = uploaded.get("imageUrl").asText();
+        assertThat(imageUrl).startsWith("/uploads/sha256/").endsWith(".png");
+        assertThat(meterRegistry.counter("dxvision.upload.bytes", "source", "stream").count())
+                .isEqualTo(streamedBefore + png.length);
+
+        // 파일 파트 없이 업로드 URL 로 케이스 생성
+        mockMvc.perform(multipart("/api/v1/admin/cases")
+                        .param("imageUrl", imageUrl)
+                        .param("title", "Streamed Case")
+                        .param("modality", Modality.XRAY.name())
+                        .param("species", Species.DOG.name())
+                        .param("lesionCx", "0.5")
+                        .param("lesionCy", "0.5")
+                        .header("Authorization", bearer(token)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.imageUrl").value(imageUrl));
+        mockMvc.perform(multipart("/api/v1/admin/cases")
+                        .param("imageUrl", "/uploads/.incoming/upload-1.tmp")
+                        .param("title", "Bogus Case")
+                        .param("modality", Modality.XRAY.name())
+                        .param("species", Species.DOG.name())
+                        .header("Authorization", bearer(token)))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/v1/admin/uploads")
+                        .contentType(MediaType.IMAGE_PNG)
+                        .content("not an image".getBytes(StandardCharsets.UTF_8))
+                        .header("Authorization", bearer(token)))
+                .andExpect(status().isUnsupportedMediaType());
+        mockMvc.perform(post("/api/v1/admin/uploads")
+                        .contentType(MediaType.IMAGE_JPEG)
+                        .content(png)
+                        .header("Authorization", bearer(token)))
+                .andExpect(status().isUnsupportedMediaType());
+
+        // 테스트 한도 1MB 초과: 선언 길이로 즉시 거절
+        byte[] oversized = Arrays.copyOf(png, 1024 * 1024 + 1);
+        mockMvc.perform(post("/api/v1/admin/uploads")
+                        .contentType(MediaType.IMAGE_PNG)
+                        .content(oversized)
+                        .header("Authorization", bearer(token)))
+                .andExpect(status().isPayloadTooLarge());
+        // 길이를 알 수 없어도 스트리밍 중 한도에서 중단
+        assertThatThrownBy(() -> fileStorageService.storeStream(new ByteArrayInputStream(oversized), -1, null))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE));
+    }
+
+    @Test
+    void unreadableCaseImageIsMarkedFailed() throws Exception {
+        String token = createUserAndLogin(Role.ADMIN);
+        JsonNode created = objectMapper.readTree(mockMvc.perform(multipart("/api/v1/admin/cases")
+                        .file(new MockMultipartFile("image", "broken.png", MediaType.IMAGE_PNG_VALUE,
+                                "fakepngcontent".getBytes(StandardCharsets.UTF_8)))
+                        .param("title", "Broken Case")
+                        .param("modality", Modality.XRAY.name())
+                        .param("species", Species.DOG.name())
+                        .param("lesionCx", "0.5")
+                        .param("lesionCy", "0.5")
+                        .header("Authorization", bearer(token)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString());
+        long caseId = created.get("id").asLong();
+
+        assertThat(caseImageDerivativeService.process(caseId, created.get("imageUrl").asText()))
+                .isEqualTo(DerivativeStatus.FAILED);
+
+        mockMvc.perform(get("/api/v1/admin/cases/{id}", caseId).header("Authorization", bearer(token)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.derivativeStatus").value("FAILED"))
+                .andExpect(jsonPath("$.derivativeError").value("Unsupported image format"));
+        mockMvc.perform(get("/api/v1/cases/{id}", caseId).header("Authorization", bearer(token)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.renditions").doesNotExist());
+        fileStorageService.deleteIfLocal(created.get("imageUrl").asText());
+    }
+
     @Test
     void adminCanUseLookupsAndManageCasesWithMultipart() throws Exception {
         String token = createUserAndLogin(Role.ADMIN);
@@ -194,6 +555,19 @@ class AdminApiIntegrationTest {
                         .header("Authorization", bearer(token)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content[0].id").value(caseId));
+
+        mockMvc.perform(get("/api/v1/admin/cases/scroll")
+                        .param("size", "10")
+                        .param("includeDeleted", "true")
+                        .header("Authorization", bearer(token)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(caseId))
+                .andExpect(jsonPath("$.hasNext").value(false));
+        mockMvc.perform(get("/api/v1/admin/cases/scroll")
+                        .param("size", String.valueOf(Integer.MAX_VALUE))
+                        .header("Authorization", bearer(token)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false));
     }
 
     @Test
@@ -331,6 +705,20 @@ class AdminApiIntegrationTest {
                 });
     }
 
+    private ImageCase sampleCase(String title) {
+        return new ImageCase(
+                title,
+                "Desc",
+                Modality.XRAY,
+                Species.DOG,
+                "http://example.com/img.jpg",
+                LesionShapeType.CIRCLE,
+                """
+                {"type":"CIRCLE","cx":0.5,"cy":0.5,"r":0.2}
+                """
+        );
+    }
+
     private String createUserAndLogin(Role role) throws Exception {
         String email = "user+" + role.name().toLowerCase() + "@example.com";
         String rawPassword = "password123";
@@ -349,6 +737,46 @@ class AdminApiIntegrationTest {
         return node.get("token").asText();
     }
 
+    private JsonNode createCaseWithImage(String token, String title, String filename, byte[] image)
+            throws Exception {
+        return objectMapper.readTree(mockMvc.perform(multipart("/api/v1/admin/cases")
+                        .file(new MockMultipartFile("image", filename, MediaType.IMAGE_PNG_VALUE, image))
+                        .param("title", title)
+                        .param("modality", Modality.XRAY.name())
+                        .param("species", Species.DOG.name())
+                        .param("lesionCx", "0.5")
+                        .param("lesionCy", "0.5")
+                        .header("Authorization", bearer(token)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private void replaceCaseImage(String token, long caseId, String title, byte[] image) throws Exception {
+        mockMvc.perform(multipart("/api/v1/admin/cases/{id}", caseId)
+                        .file(new MockMultipartFile("image", "replacement.png", MediaType.IMAGE_PNG_VALUE, image))
+                        .param("title", title)
+                        .param("modality", Modality.XRAY.name())
+                        .param("species", Species.DOG.name())
+                        .param("lesionCx", "0.5")
+                        .param("lesionCy", "0.5")
+                        .header("Authorization", bearer(token))
+                        .with(request -> {
+                            request.setMethod("PUT");
+                            return request;
+                        }))
+                .andExpect(status().isOk());
+    }
+
+    // 실행마다 다른 내용이 되도록 픽셀 값을 seed 로 채움
+    private static byte[] pngBytes(int width, int height, int seed) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, seed & 0xFFFFFF);
+        image.setRGB(1, 0, (seed >>> 8) & 0xFFFFFF);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
     private String bearer(String token) {
         return "Bearer " + token;
     }
@@ -2,6 +2,7 @@ package com.example.dxvision;
 
 import com.example.dxvision.domain.auth.dto.LoginRequest;
 import com.example.dxvision.domain.auth.dto.SignupRequest;
+import com.example.dxvision.domain.attempt.dto.AttemptBatchRequest;
 import com.example.dxvision.domain.attempt.dto.AttemptSubmitRequest;
 import com.example.dxvision.domain.casefile.CaseDiagnosis;
 import com.example.dxvision.domain.casefile.CaseFinding;
@@ -15,8 +16,13 @@ import com.example.dxvision.domain.repository.DiagnosisRepository;
 import com.example.dxvision.domain.repository.FindingRepository;
 import com.example.dxvision.domain.repository.ImageCaseRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,8 +30,10 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -51,6 +59,12 @@ class AttemptSubmitApiTest {
     @Autowired
     private DiagnosisRepository diagnosisRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private ImageCase imageCase;
 
     @BeforeEach
@@ -107,8 +121,8 @@ class AttemptSubmitApiTest {
         AttemptSubmitRequest req = new AttemptSubmitRequest(
                 imageCase.getId(),
                 imageCase.getVersion(),
-                List.of(imageCase.getFindings().getFirst().getFinding().getId()),
-                List.of(imageCase.getDiagnoses().getFirst().getDiagnosis().getId()),
+                List.of(imageCase.getFindings().iterator().next().getFinding().getId()),
+                List.of(imageCase.getDiagnoses().iterator().next().getDiagnosis().getId()),
                 0.5,
                 0.5
         );
@@ -147,4 +161,176 @@ class AttemptSubmitApiTest {
                         .content(objectMapper.writeValueAsString(req)))
                 .andExpect(status().isConflict());
     }
+
+    @Test
+    void submitAttemptRecompilesAnswerKeyAfterVersionBump() throws Exception {
+        String jwt = signupAndLogin();
+        Long findingId = imageCase.getFindings().iterator().next().getFinding().getId();
+        Long diagnosisId = imageCase.getDiagnoses().iterator().next().getDiagnosis().getId();
+
+        submit(jwt, new AttemptSubmitRequest(
+                imageCase.getId(), imageCase.getVersion(), List.of(findingId), List.of(diagnosisId), 0.5, 0.5))
+                .andExpect(jsonPath("$.locationScore").value(100.0));
+
+        imageCase.updateMetadata(
+                imageCase.getTitle(),
+                imageCase.getDescription(),
+                imageCase.getModality(),
+                imageCase.getSpecies(),
+                imageCase.getImageUrl(),
+                LesionShapeType.RECT,
+                """
+                {"type":"RECT","x":0.0,"y":0.0,"w":0.1,"h":0.1}
+                """,
+                null,
+                null,
+                null
+        );
+        imageCase.incrementVersion();
+        imageCaseRepository.saveAndFlush(imageCase);
+
+        submit(jwt, new AttemptSubmitRequest(
+                imageCase.getId(), imageCase.getVersion(), List.of(findingId), List.of(diagnosisId), 0.5, 0.5))
+                .andExpect(jsonPath("$.caseVersion").value(imageCase.getVersion()))
+                .andExpect(jsonPath("$.locationScore").value(0.0))
+                .andExpect(jsonPath("$.locationGrade").value("WRONG"));
+    }
+
+    @Test
+    void submitBatchReportsPerItemResults() throws Exception {
+        String jwt = signupAndLogin();
+        Long findingId = imageCase.getFindings().iterator().next().getFinding().getId();
+        Long diagnosisId = imageCase.getDiagnoses().iterator().next().getDiagnosis().getId();
+
+        AttemptBatchRequest batch = new AttemptBatchRequest(List.of(
+                new AttemptSubmitRequest(
+                        imageCase.getId(), imageCase.getVersion(), List.of(findingId), List.of(diagnosisId), 0.5, 0.5),
+                new AttemptSubmitRequest(
+                        imageCase.getId(), imageCase.getVersion() + 1, List.of(), List.of(), 0.1, 0.1),
+                new AttemptSubmitRequest(
+                        Long.MAX_VALUE, 1L, List.of(), List.of(), 0.1, 0.1),
+                new AttemptSubmitRequest(
+                        imageCase.getId(), imageCase.getVersion(), List.of(), List.of(), 0.9, 0.9)
+        ));
+
+        mockMvc.perform(post("/api/v1/attempts/batch")
+                        .header("Authorization", "Bearer " + jwt)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.submitted").value(4))
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.results[0].status").value(200))
+                .andExpect(jsonPath("$.results[0].result.finalScore").value(100.0))
+                .andExpect(jsonPath("$.results[1].status").value(409))
+                .andExpect(jsonPath("$.results[2].status").value(404))
+                .andExpect(jsonPath("$.results[2].caseId").value(Long.MAX_VALUE))
+                .andExpect(jsonPath("$.results[3].status").value(200))
+                .andExpect(jsonPath("$.results[3].result.finalScore").value(0.0));
+
+        mockMvc.perform(post("/api/v1/attempts/batch")
+                        .header("Authorization", "Bearer " + jwt)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"attempts\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void submitAttemptStatementCountDoesNotGrowWithAnswerCount() throws Exception {
+        List<Finding> findings = new ArrayList<>();
+        List<Diagnosis> diagnoses = new ArrayList<>();
+        ImageCase wide = new ImageCase(
+                "Wide Case",
+                "Desc",
+                Modality.CT,
+                Species.CAT,
+                "http://example.com/wide.jpg",
+                LesionShapeType.CIRCLE,
+                """
+                {"type":"CIRCLE","cx":0.5,"cy":0.5,"r":0.2}
+                """
+        );
+        for (int i = 0; i < 10; i++) {
+            Finding finding = findingRepository.save(new Finding("Wide Finding " + i, "desc"));
+            findings.add(finding);
+            wide.getFindings().add(new CaseFinding(wide, finding, true));
+        }
+        for (int i = 0; i < 5; i++) {
+            Diagnosis diagnosis = diagnosisRepository.save(new Diagnosis("Wide Diagnosis " + i, "desc"));
+            diagnoses.add(diagnosis);
+            wide.getDiagnoses().add(new CaseDiagnosis(wide, diagnosis, 1.0));
+        }
+        imageCaseRepository.save(wide);
+        AttemptSubmitRequest wideRequest = new AttemptSubmitRequest(
+                wide.getId(),
+                wide.getVersion(),
+                findings.stream().map(Finding::getId).toList(),
+                diagnoses.stream().map(Diagnosis::getId).toList(),
+                0.5,
+                0.5
+        );
+        ImageCase narrow = new ImageCase(
+                "Narrow Case",
+                "Desc",
+                Modality.CT,
+                Species.CAT,
+                "http://example.com/narrow.jpg",
+                LesionShapeType.CIRCLE,
+                """
+                {"type":"CIRCLE","cx":0.5,"cy":0.5,"r":0.2}
+                """
+        );
+        narrow.getFindings().add(new CaseFinding(narrow, findings.getFirst(), true));
+        narrow.getDiagnoses().add(new CaseDiagnosis(narrow, diagnoses.getFirst(), 1.0));
+        imageCaseRepository.save(narrow);
+        AttemptSubmitRequest narrowRequest = new AttemptSubmitRequest(
+                narrow.getId(),
+                narrow.getVersion(),
+                List.of(findings.getFirst().getId()),
+                List.of(diagnoses.getFirst().getId()),
+                0.5,
+                0.5
+        );
+        AttemptSubmitRequest otherRequest = new AttemptSubmitRequest(
+                imageCase.getId(),
+                imageCase.getVersion(),
+                List.of(imageCase.getFindings().iterator().next().getFinding().getId()),
+                List.of(imageCase.getDiagnoses().iterator().next().getDiagnosis().getId()),
+                0.5,
+                0.5
+        );
+
+        // 워밍업: 답안 키 컴파일, id 블록 할당, 사용자 통계/일별 활동 행 생성
+        String warmupJwt = signupAndLogin();
+        submit(warmupJwt, wideRequest);
+        submit(warmupJwt, narrowRequest);
+        String jwt = signupAndLogin();
+        submit(jwt, otherRequest);
+        entityManager.flush();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        submit(jwt, wideRequest);
+        entityManager.flush();
+        long wideStatements = statistics.getPrepareStatementCount();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + 1 + 10 + 5 + 1);
+
+        statistics.clear();
+        submit(jwt, narrowRequest);
+        entityManager.flush();
+        long narrowStatements = statistics.getPrepareStatementCount();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + 1 + 1 + 1 + 1);
+
+        assertThat(wideStatements).isEqualTo(narrowStatements);
+    }
+
+    private ResultActions submit(String jwt, AttemptSubmitRequest request) throws Exception {
+        return mockMvc.perform(post("/api/v1/attempts")
+                        .header("Authorization", "Bearer " + jwt)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+    }
 }
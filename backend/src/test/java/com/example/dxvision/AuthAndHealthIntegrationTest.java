@@ -2,17 +2,33 @@ package com.example.dxvision;
 
 import com.example.dxvision.domain.auth.dto.LoginRequest;
 import com.example.dxvision.domain.auth.dto.SignupRequest;
+import com.example.dxvision.domain.auth.Role;
+import com.example.dxvision.domain.auth.User;
+import com.example.dxvision.domain.auth.security.PasswordHashingExecutor;
+import com.example.dxvision.domain.repository.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.server.ResponseStatusException;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -25,6 +41,12 @@ class AuthAndHealthIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${app.rate-limit.auth.email-limit}")
+    private int emailLimit;
+
     @Test
     void healthEndpointIsPublic() throws Exception {
         mockMvc.perform(get("/api/v1/health"))
@@ -54,4 +76,70 @@ class AuthAndHealthIntegrationTest {
                 .andExpect(jsonPath("$.token").isNotEmpty())
                 .andExpect(jsonPath("$.user.email").value(email));
     }
+
+    @Test
+    void repeatedLoginsForOneEmailAreThrottled() throws Exception {
+        String email = "throttled-" + UUID.randomUUID() + "@example.com";
+        String body = objectMapper.writeValueAsString(new LoginRequest(email, "WrongPassword1!"));
+        for (int i = 0; i < emailLimit; i++) {
+            mockMvc.perform(post("/api/v1/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(email.toUpperCase(), "WrongPassword1!"))))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.status").value(429));
+
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new LoginRequest("other-" + UUID.randomUUID() + "@example.com", "WrongPassword1!"))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void loginRehashesPasswordStoredWithWeakerStrength() throws Exception {
+        String email = "legacy-" + UUID.randomUUID() + "@example.com";
+        userRepository.save(new User(email, new BCryptPasswordEncoder(4).encode("Password123!"), "Legacy", Role.USER));
+
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(email, "Password123!"))))
+                .andExpect(status().isOk());
+
+        assertThat(userRepository.findByEmail(email).orElseThrow().getPassword()).startsWith("$2a$05$");
+    }
+
+    @Test
+    void passwordHashingRejectsWhenSaturated() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 0, 5000, 3, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> executor.execute(PasswordHashingExecutor.Operation.MATCHES, () -> {
+            started.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        ResponseStatusException rejected = catchThrowableOfType(ResponseStatusException.class,
+                () -> executor.execute(PasswordHashingExecutor.Operation.MATCHES, () -> true));
+
+        assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(rejected.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("dxvision.auth.password.hash").tag("operation", "matches").timer().count())
+                .isEqualTo(1);
+    }
 }
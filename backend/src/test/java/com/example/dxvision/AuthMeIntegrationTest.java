@@ -3,6 +3,7 @@ package com.example.dxvision;
 import com.example.dxvision.domain.auth.dto.LoginRequest;
 import com.example.dxvision.domain.auth.dto.SignupRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,6 +13,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -28,9 +30,44 @@ class AuthMeIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Test
     void authMeReturnsCurrentUser() throws Exception {
         String email = "me-user-" + UUID.randomUUID() + "@example.com";
+        String jwt = signupAndLogin(email);
+
+        mockMvc.perform(get("/api/v1/auth/me")
+                        .header("Authorization", "Bearer " + jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value(email))
+                .andExpect(jsonPath("$.name").value("Me User"));
+    }
+
+    @Test
+    void repeatedRequestsReuseVerifiedToken() throws Exception {
+        String jwt = signupAndLogin("cache-user-" + UUID.randomUUID() + "@example.com");
+        double misses = meterRegistry.counter("dxvision.jwt.verify.cache", "result", "miss").count();
+        double hits = meterRegistry.counter("dxvision.jwt.verify.cache", "result", "hit").count();
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/v1/auth/me")
+                            .header("Authorization", "Bearer " + jwt))
+                    .andExpect(status().isOk());
+        }
+
+        assertThat(meterRegistry.counter("dxvision.jwt.verify.cache", "result", "miss").count() - misses)
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.counter("dxvision.jwt.verify.cache", "result", "hit").count() - hits)
+                .isEqualTo(2.0);
+
+        mockMvc.perform(get("/api/v1/auth/me")
+                        .header("Authorization", "Bearer " + jwt + "x"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private String signupAndLogin(String email) throws Exception {
         SignupRequest signupRequest = new SignupRequest(email, "Password123!", "Me User");
 
         mockMvc.perform(post("/api/v1/auth/signup")
@@ -47,12 +84,7 @@ class AuthMeIntegrationTest {
                 .getResponse()
                 .getContentAsString();
 
-        String jwt = objectMapper.readTree(token).get("token").asText();
-
-        mockMvc.perform(get("/api/v1/auth/me")
-                        .header("Authorization", "Bearer " + jwt))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.email").value(email))
-                .andExpect(jsonPath("$.name").value("Me User"));
+        return objectMapper.readTree(token).get("token").asText();
     }
 }
+
@@ -5,28 +5,48 @@ import com.example.dxvision.domain.auth.dto.SignupRequest;
 import com.example.dxvision.domain.casefile.CaseDiagnosis;
 import com.example.dxvision.domain.casefile.CaseFinding;
 import com.example.dxvision.domain.casefile.Diagnosis;
+import com.example.dxvision.domain.casefile.DiagnosisFolder;
 import com.example.dxvision.domain.casefile.Finding;
+import com.example.dxvision.domain.casefile.FindingFolder;
 import com.example.dxvision.domain.casefile.ImageCase;
 import com.example.dxvision.domain.casefile.LesionShapeType;
 import com.example.dxvision.domain.casefile.Modality;
+import com.example.dxvision.domain.casefile.OptionFolder;
+import com.example.dxvision.domain.casefile.OptionType;
 import com.example.dxvision.domain.casefile.Species;
+import com.example.dxvision.domain.casefile.dto.OptionFolderRequest;
+import com.example.dxvision.domain.casefile.event.OptionTaxonomyChangedEvent;
+import com.example.dxvision.domain.casefile.service.OptionFolderService;
+import com.example.dxvision.domain.repository.DiagnosisFolderRepository;
 import com.example.dxvision.domain.repository.DiagnosisRepository;
+import com.example.dxvision.domain.repository.FindingFolderRepository;
 import com.example.dxvision.domain.repository.FindingRepository;
 import com.example.dxvision.domain.repository.ImageCaseRepository;
+import com.example.dxvision.domain.repository.OptionFolderRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -49,6 +69,27 @@ class CaseGetByIdApiTest {
     @Autowired
     private DiagnosisRepository diagnosisRepository;
 
+    @Autowired
+    private OptionFolderRepository optionFolderRepository;
+
+    @Autowired
+    private FindingFolderRepository findingFolderRepository;
+
+    @Autowired
+    private DiagnosisFolderRepository diagnosisFolderRepository;
+
+    @Autowired
+    private OptionFolderService optionFolderService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private ImageCase imageCase;
 
     @BeforeEach
@@ -109,4 +150,162 @@ class CaseGetByIdApiTest {
                 .andExpect(jsonPath("$.findings").isArray())
                 .andExpect(jsonPath("$.diagnoses").isArray());
     }
+
+    @Test
+    void getCaseByIdFolderQueriesDoNotGrowWithFolderCount() throws Exception {
+        String jwt = signupAndLogin();
+        Finding finding = imageCase.getFindings().iterator().next().getFinding();
+        Diagnosis diagnosis = imageCase.getDiagnoses().iterator().next().getDiagnosis();
+        addFolders(finding, diagnosis, 1);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // 워밍업: 사용자 상태 캐시 적재
+        measureCaseById(jwt, statistics, 1);
+
+        long oneFolderStatements = measureCaseById(jwt, statistics, 1);
+        addFolders(finding, diagnosis, 5);
+        long sixFolderStatements = measureCaseById(jwt, statistics, 6);
+
+        assertThat(sixFolderStatements).isEqualTo(oneFolderStatements);
+    }
+
+    @Test
+    void getCaseByIdAnswersConditionalRequestsWithoutLoadingTheCase() throws Exception {
+        String jwt = signupAndLogin();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        String etag = mockMvc.perform(get("/api/v1/cases/{id}", imageCase.getId())
+                        .header("Authorization", "Bearer " + jwt))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"v" + imageCase.getVersion() + ".");
+
+        entityManager.clear();
+        statistics.clear();
+        mockMvc.perform(get("/api/v1/cases/{id}", imageCase.getId())
+                        .header("Authorization", "Bearer " + jwt)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        ImageCase reloaded = imageCaseRepository.findById(imageCase.getId()).orElseThrow();
+        reloaded.incrementVersion();
+        imageCaseRepository.saveAndFlush(reloaded);
+
+        mockMvc.perform(get("/api/v1/cases/{id}", imageCase.getId())
+                        .header("Authorization", "Bearer " + jwt)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.version").value(reloaded.getVersion()));
+    }
+
+    @Test
+    void quizOptionsRevalidateWithEtag() throws Exception {
+        String jwt = signupAndLogin();
+        addFolders(
+                imageCase.getFindings().iterator().next().getFinding(),
+                imageCase.getDiagnoses().iterator().next().getDiagnosis(),
+                1
+        );
+
+        String caseEtag = mockMvc.perform(get("/api/v1/quiz/options")
+                        .param("type", "FINDING")
+                        .param("caseId", imageCase.getId().toString())
+                        .header("Authorization", "Bearer " + jwt))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/v1/quiz/options")
+                        .param("type", "FINDING")
+                        .param("caseId", imageCase.getId().toString())
+                        .header("Authorization", "Bearer " + jwt)
+                        .header(HttpHeaders.IF_NONE_MATCH, caseEtag))
+                .andExpect(status().isNotModified());
+
+        String fullEtag = mockMvc.perform(get("/api/v1/quiz/options")
+                        .param("type", "FINDING")
+                        .header("Authorization", "Bearer " + jwt))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(fullEtag).isNotEqualTo(caseEtag);
+
+        optionFolderService.createFolder(new OptionFolderRequest(OptionType.FINDING, "Brand New Folder", 999));
+
+        mockMvc.perform(get("/api/v1/quiz/options")
+                        .param("type", "FINDING")
+                        .header("Authorization", "Bearer " + jwt)
+                        .header(HttpHeaders.IF_NONE_MATCH, fullEtag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(fullEtag)))
+                .andExpect(jsonPath("$[?(@.name == 'Brand New Folder')]").exists());
+        // 케이스 범위 응답은 새 빈 폴더와 무관하므로 폴더 목록은 동일
+        mockMvc.perform(get("/api/v1/quiz/options")
+                        .param("type", "FINDING")
+                        .param("caseId", imageCase.getId().toString())
+                        .header("Authorization", "Bearer " + jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    void defaultFolderReconciliationIsSetBased() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<Long> few = saveUnassignedFindings(3);
+        entityManager.flush();
+
+        statistics.clear();
+        assertThat(optionFolderService.initializeDefaults()).isGreaterThanOrEqualTo(3);
+        long fewStatements = statistics.getPrepareStatementCount();
+        assertThat(findingFolderRepository.findOrderedByTypeAndFindingIds(OptionType.FINDING, few))
+                .hasSize(3)
+                .allMatch(mapping -> mapping.getFolder().isSystemDefault());
+
+        List<Long> many = saveUnassignedFindings(30);
+        entityManager.flush();
+        statistics.clear();
+        assertThat(optionFolderService.initializeDefaults()).isEqualTo(30);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(fewStatements);
+        assertThat(findingFolderRepository.findOrderedByTypeAndFindingIds(OptionType.FINDING, many)).hasSize(30);
+
+        assertThat(optionFolderService.initializeDefaults()).isZero();
+    }
+
+    private List<Long> saveUnassignedFindings(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(findingRepository.save(new Finding("Unassigned " + UUID.randomUUID(), "desc")).getId());
+        }
+        return ids;
+    }
+
+    private void addFolders(Finding finding, Diagnosis diagnosis, int count) {
+        for (int i = 0; i < count; i++) {
+            OptionFolder findingFolder = optionFolderRepository.save(
+                    new OptionFolder(OptionType.FINDING, "F-" + UUID.randomUUID(), 100 + i, false));
+            findingFolderRepository.save(new FindingFolder(findingFolder, finding, 0));
+            OptionFolder diagnosisFolder = optionFolderRepository.save(
+                    new OptionFolder(OptionType.DIAGNOSIS, "D-" + UUID.randomUUID(), 100 + i, false));
+            diagnosisFolderRepository.save(new DiagnosisFolder(diagnosisFolder, diagnosis, 0));
+        }
+        entityManager.flush();
+        // 리포지토리 직접 쓰기는 서비스 이벤트를 거치지 않으므로 변경 사실만 알림
+        eventPublisher.publishEvent(new OptionTaxonomyChangedEvent(OptionType.FINDING));
+    }
+
+    private long measureCaseById(String jwt, Statistics statistics, int expectedFolders) throws Exception {
+        entityManager.clear();
+        statistics.clear();
+        mockMvc.perform(get("/api/v1/cases/{id}", imageCase.getId())
+                        .header("Authorization", "Bearer " + jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.findingFolders.length()").value(expectedFolders))
+                .andExpect(jsonPath("$.diagnosisFolders.length()").value(expectedFolders))
+                .andExpect(jsonPath("$.findingFolders[0].items[0].id").value(imageCase.getFindings().iterator().next().getFinding().getId()));
+        return statistics.getPrepareStatementCount();
+    }
 }
@@ -13,6 +13,7 @@ import com.example.dxvision.domain.casefile.Modality;
 import com.example.dxvision.domain.casefile.Species;
 import com.example.dxvision.domain.casefile.dto.CaseListItemResponse;
 import com.example.dxvision.domain.casefile.dto.CaseListPageResponse;
+import com.example.dxvision.domain.casefile.dto.CursorPageResponse;
 import com.example.dxvision.domain.progress.UserCaseStatus;
 import com.example.dxvision.domain.repository.DiagnosisRepository;
 import com.example.dxvision.domain.repository.FindingRepository;
@@ -33,6 +34,7 @@ import org.springframework.transaction.annotation.Transactional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -138,6 +140,38 @@ class CaseListApiTest {
         assertThat(only.modality()).isEqualTo(Modality.ULTRASOUND);
     }
 
+    @Test
+    void keywordSearchSupportsPrefixKoreanAndRanking() throws Exception {
+        String jwt = signupAndLogin("search");
+        ImageCase pneumoniaTitle = createCase("폐렴 흉부 사진", "우측 폐야 음영", Modality.XRAY, Species.DOG);
+        ImageCase pneumoniaDescription = createCase("Chest Follow-up", "폐렴이 의심되는 소견", Modality.XRAY, Species.CAT);
+
+        CaseListPageResponse<CaseListItemResponse> korean = searchCases(jwt, "폐렴");
+        assertThat(korean.content())
+                .extracting(CaseListItemResponse::caseId)
+                .containsExactly(pneumoniaTitle.getId(), pneumoniaDescription.getId());
+
+        CaseListPageResponse<CaseListItemResponse> prefix = searchCases(jwt, "thor");
+        assertThat(prefix.content())
+                .extracting(CaseListItemResponse::caseId)
+                .containsExactly(thoraxDog.getId());
+
+        CaseListPageResponse<CaseListItemResponse> none = searchCases(jwt, "thorax 폐렴");
+        assertThat(none.content()).isEmpty();
+        assertThat(none.totalElements()).isZero();
+    }
+
+    private CaseListPageResponse<CaseListItemResponse> searchCases(String jwt, String keyword) throws Exception {
+        String json = mockMvc.perform(get("/api/v1/cases")
+                        .param("keyword", keyword)
+                        .header("Authorization", "Bearer " + jwt))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readValue(json, new TypeReference<>() {});
+    }
+
     @Test
     void statusFilterReturnsProgressDetails() throws Exception {
         String jwt = signupAndLogin("progress");
@@ -162,6 +196,60 @@ class CaseListApiTest {
         assertThat(wrong.lastAttemptAt()).isNotNull();
     }
 
+    @Test
+    void scrollWalksAllCasesWithCursorAndNoCount() throws Exception {
+        String jwt = signupAndLogin("scroll");
+
+        CursorPageResponse<CaseListItemResponse> first = scroll(jwt, null);
+        assertThat(first.content()).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.nextCursor()).isNotBlank();
+
+        CursorPageResponse<CaseListItemResponse> second = scroll(jwt, first.nextCursor());
+        assertThat(second.content()).hasSize(1);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.nextCursor()).isNull();
+
+        assertThat(List.of(first.content(), second.content()).stream().flatMap(List::stream))
+                .extracting(CaseListItemResponse::caseId)
+                .containsExactlyInAnyOrder(thoraxDog.getId(), abdomenCat.getId(), cardioDog.getId());
+
+        // size 상한 적용 (size + 1 overflow 방지)
+        mockMvc.perform(get("/api/v1/cases/scroll")
+                        .param("size", String.valueOf(Integer.MAX_VALUE))
+                        .header("Authorization", "Bearer " + jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3))
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        // 상한은 scroll에만 적용 (문제 목록 패널은 size=300 offset 조회)
+        mockMvc.perform(get("/api/v1/cases")
+                        .param("size", "300")
+                        .header("Authorization", "Bearer " + jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(300));
+
+        mockMvc.perform(get("/api/v1/cases/scroll")
+                        .param("cursor", "not-a-cursor")
+                        .header("Authorization", "Bearer " + jwt))
+                .andExpect(status().isBadRequest());
+    }
+
+    private CursorPageResponse<CaseListItemResponse> scroll(String jwt, String cursor) throws Exception {
+        var request = get("/api/v1/cases/scroll")
+                .param("size", "2")
+                .header("Authorization", "Bearer " + jwt);
+        if (cursor != null) {
+            request.param("cursor", cursor);
+        }
+        String json = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readValue(json, new TypeReference<>() {});
+    }
+
     private CaseListPageResponse<CaseListItemResponse> fetchCases(String jwt, String status) throws Exception {
         String json = mockMvc.perform(get("/api/v1/cases")
                         .param("status", status)
@@ -2,6 +2,7 @@ package com.example.dxvision;
 
 import com.example.dxvision.domain.auth.dto.LoginRequest;
 import com.example.dxvision.domain.auth.dto.SignupRequest;
+import com.example.dxvision.domain.attempt.dto.AttemptSubmitRequest;
 import com.example.dxvision.domain.casefile.CaseDiagnosis;
 import com.example.dxvision.domain.casefile.CaseFinding;
 import com.example.dxvision.domain.casefile.Diagnosis;
@@ -51,6 +52,9 @@ class CaseRandomApiTest {
     @Autowired
     private DiagnosisRepository diagnosisRepository;
 
+    private ImageCase case1;
+    private ImageCase case2;
+
     @BeforeEach
     void setupData() {
         if (imageCaseRepository.count() > 0) {
@@ -62,7 +66,7 @@ class CaseRandomApiTest {
         Diagnosis d1 = diagnosisRepository.save(new Diagnosis("Diagnosis X", "desc"));
         Diagnosis d2 = diagnosisRepository.save(new Diagnosis("Diagnosis Y", "desc"));
 
-        ImageCase case1 = new ImageCase(
+        case1 = new ImageCase(
                 "Case 1",
                 "Desc 1",
                 Modality.XRAY,
@@ -78,7 +82,7 @@ class CaseRandomApiTest {
         case1.getFindings().add(cf1);
         case1.getDiagnoses().add(cd1);
 
-        ImageCase case2 = new ImageCase(
+        case2 = new ImageCase(
                 "Case 2",
                 "Desc 2",
                 Modality.ULTRASOUND,
@@ -99,6 +103,73 @@ class CaseRandomApiTest {
 
     @Test
     void randomCaseEndpointReturnsDataForAuthenticatedUser() throws Exception {
+        String jwt = signupAndLogin();
+
+        mockMvc.perform(get("/api/v1/cases/random")
+                        .header("Authorization", "Bearer " + jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").isNotEmpty())
+                .andExpect(jsonPath("$.title").isNotEmpty())
+                .andExpect(jsonPath("$.imageUrl").isNotEmpty())
+                .andExpect(jsonPath("$.lesionShapeType").isNotEmpty())
+                .andExpect(jsonPath("$.findings").isArray())
+                .andExpect(jsonPath("$.diagnoses").isArray());
+    }
+
+    @Test
+    void randomCaseFiltersAreAppliedAndSolvedCasesExcluded() throws Exception {
+        String jwt = signupAndLogin();
+
+        mockMvc.perform(get("/api/v1/cases/random")
+                        .param("modality", "ULTRASOUND")
+                        .param("species", "CAT")
+                        .header("Authorization", "Bearer " + jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(case2.getId()));
+
+        mockMvc.perform(get("/api/v1/cases/random")
+                        .param("modality", "CT")
+                        .header("Authorization", "Bearer " + jwt))
+                .andExpect(status().isNotFound());
+
+        Long findingId = case1.getFindings().iterator().next().getFinding().getId();
+        Long diagnosisId = case1.getDiagnoses().iterator().next().getDiagnosis().getId();
+        AttemptSubmitRequest correct = new AttemptSubmitRequest(
+                case1.getId(),
+                case1.getVersion(),
+                List.of(findingId),
+                List.of(diagnosisId),
+                0.5,
+                0.5
+        );
+        mockMvc.perform(post("/api/v1/attempts")
+                        .header("Authorization", "Bearer " + jwt)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(correct)))
+                .andExpect(status().isOk());
+
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(get("/api/v1/cases/random")
+                            .param("excludeSolved", "true")
+                            .header("Authorization", "Bearer " + jwt))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").value(case2.getId()));
+        }
+
+        mockMvc.perform(get("/api/v1/cases/random")
+                        .param("status", "CORRECT")
+                        .header("Authorization", "Bearer " + jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(case1.getId()));
+
+        mockMvc.perform(get("/api/v1/cases/random")
+                        .param("status", "UNSEEN")
+                        .param("modality", "XRAY")
+                        .header("Authorization", "Bearer " + jwt))
+                .andExpect(status().isNotFound());
+    }
+
+    private String signupAndLogin() throws Exception {
         String email = "case-user-" + UUID.randomUUID() + "@example.com";
         SignupRequest signupRequest = new SignupRequest(email, "Password123!", "Case User");
 
@@ -119,16 +190,6 @@ class CaseRandomApiTest {
                 .getResponse()
                 .getContentAsString();
 
-        String jwt = objectMapper.readTree(token).get("token").asText();
-
-        mockMvc.perform(get("/api/v1/cases/random")
-                        .header("Authorization", "Bearer " + jwt))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").isNotEmpty())
-                .andExpect(jsonPath("$.title").isNotEmpty())
-                .andExpect(jsonPath("$.imageUrl").isNotEmpty())
-                .andExpect(jsonPath("$.lesionShapeType").isNotEmpty())
-                .andExpect(jsonPath("$.findings").isArray())
-                .andExpect(jsonPath("$.diagnoses").isArray());
+        return objectMapper.readTree(token).get("token").asText();
     }
 }
@@ -17,16 +17,21 @@ import com.example.dxvision.domain.dashboard.dto.DashboardCaseItemResponse;
 import com.example.dxvision.domain.dashboard.dto.DashboardSummaryResponse;
 import com.example.dxvision.domain.repository.AttemptRepository;
 import com.example.dxvision.domain.progress.UserCaseStatus;
+import com.example.dxvision.domain.progress.service.UserStatsService;
 import com.example.dxvision.domain.repository.DiagnosisRepository;
 import com.example.dxvision.domain.repository.FindingRepository;
 import com.example.dxvision.domain.repository.ImageCaseRepository;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -68,6 +73,15 @@ class DashboardProgressApiTest {
     @Autowired
     private AttemptRepository attemptRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserStatsService userStatsService;
+
     @BeforeEach
     void setupCases() {
         if (imageCaseOne == null) {
@@ -118,6 +132,7 @@ class DashboardProgressApiTest {
         assertThat(summary.reattemptCorrectCount()).isZero();
         assertThat(summary.level()).isGreaterThanOrEqualTo(1);
         assertThat(summary.correctThreshold()).isGreaterThan(0);
+        assertThat(summary.streak()).isEqualTo(1);
 
         List<DashboardCaseItemResponse> correctCases = fetchCases(auth.jwt(), UserCaseStatus.CORRECT);
         assertThat(correctCases).extracting(DashboardCaseItemResponse::caseId).containsExactly(imageCaseOne.getId());
@@ -131,8 +146,12 @@ class DashboardProgressApiTest {
         AuthContext auth = signupAndLogin("activity");
 
         submitAttempt(auth.jwt(), correctAttempt(imageCaseOne));
-        submitAttempt(auth.jwt(), wrongAttempt(imageCaseTwo));
-        submitAttempt(auth.jwt(), wrongAttempt(imageCaseOne));
+        submitAttempt(auth.jwt(), correctAttempt(imageCaseTwo));
+        submitAttempt(auth.jwt(), correctAttempt(imageCaseOne));
+
+        DashboardActivityResponse live = fetchActivity(auth.jwt(), 7);
+        assertThat(live.totalSolved()).isEqualTo(3);
+        assertThat(live.streak()).isEqualTo(1);
 
         LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
         LocalDate yesterday = today.minusDays(1);
@@ -154,6 +173,8 @@ class DashboardProgressApiTest {
             ReflectionTestUtils.setField(attempts.get(1), "submittedAt", yesterdayInstant);
             ReflectionTestUtils.setField(attempts.get(2), "submittedAt", twoDaysAgoInstant);
             attemptRepository.saveAll(attempts);
+            // 제출 시각을 옮겼으므로 롤업을 attempts 기준으로 재구성
+            userStatsService.rebuild(attempts.get(0).getUser().getId());
         }
 
         DashboardActivityResponse activity = fetchActivity(auth.jwt(), 7);
@@ -168,6 +189,43 @@ class DashboardProgressApiTest {
         assertThat(todayCount).isEqualTo(1);
     }
 
+    @Test
+    void summaryIsServedFromStatsCounters() throws Exception {
+        AuthContext auth = signupAndLogin("counters");
+
+        submitAttempt(auth.jwt(), wrongAttempt(imageCaseOne));
+        submitAttempt(auth.jwt(), correctAttempt(imageCaseOne));
+        submitAttempt(auth.jwt(), correctAttempt(imageCaseTwo));
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        DashboardSummaryResponse summary = fetchSummary(auth.jwt());
+        long firstRead = statistics.getPrepareStatementCount();
+        statistics.clear();
+        fetchSummary(auth.jwt());
+        long cachedRead = statistics.getPrepareStatementCount();
+
+        assertThat(summary.correctCount()).isEqualTo(1);
+        assertThat(summary.reattemptCorrectCount()).isEqualTo(1);
+        assertThat(summary.wrongCount()).isZero();
+        assertThat(summary.xp()).isEqualTo(50 + 70);
+        assertThat(summary.level()).isEqualTo(2);
+        assertThat(summary.streak()).isEqualTo(1);
+        // 인증 필터의 사용자 조회 + user_stats 1건, 캐시 적중 시 통계 조회 없음
+        assertThat(firstRead - cachedRead).isEqualTo(1);
+
+        Long userId = attemptRepository.findAll().stream()
+                .filter(attempt -> attempt.getUser().getEmail().equals(auth.email()))
+                .findFirst()
+                .orElseThrow()
+                .getUser()
+                .getId();
+        userStatsService.rebuild(userId);
+        assertThat(fetchSummary(auth.jwt())).isEqualTo(summary);
+    }
+
     private AuthContext signupAndLogin(String label) throws Exception {
         String email = "dashboard-" + label + "-" + UUID.randomUUID() + "@example.com";
         SignupRequest signupRequest = new SignupRequest(email, "Password123!", "Dash " + label);
@@ -0,0 +1,148 @@
+package com.example.dxvision;
+
+import com.example.dxvision.domain.casefile.ImageCase;
+import com.example.dxvision.domain.casefile.LesionShapeType;
+import com.example.dxvision.domain.casefile.Modality;
+import com.example.dxvision.domain.casefile.Species;
+import com.example.dxvision.domain.casefile.event.ImageCaseChangedEvent;
+import com.example.dxvision.domain.casefile.event.ImageCaseChangedEvent.ChangeType;
+import com.example.dxvision.domain.casefile.service.CaseQueryService;
+import com.example.dxvision.domain.casefile.service.LiveCaseIdIndex;
+import com.example.dxvision.domain.repository.ImageCaseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Proxy;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LiveCaseIdIndexTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private Supplier<List<Long>> dbIds = List::of;
+    private Set<Long> existingIds = Set.of();
+    private final ImageCaseRepository repository = stubRepository();
+    private final LiveCaseIdIndex index = new LiveCaseIdIndex(repository, meterRegistry);
+
+    @Test
+    void deleteAndRestoreEventsFollowTheCatalogue() {
+        dbIds = () -> List.of(1L, 2L, 3L);
+        index.rebuild();
+
+        index.onCaseChanged(new ImageCaseChangedEvent(2L, ChangeType.DELETED));
+        assertThat(drawnIds()).containsExactlyInAnyOrder(1L, 3L);
+
+        index.onCaseChanged(new ImageCaseChangedEvent(2L, ChangeType.RESTORED));
+        index.onCaseChanged(new ImageCaseChangedEvent(4L, ChangeType.CREATED));
+        index.onCaseChanged(new ImageCaseChangedEvent(1L, ChangeType.UPDATED));
+        assertThat(drawnIds()).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+
+        // 중복 이벤트는 무시
+        index.onCaseChanged(new ImageCaseChangedEvent(4L, ChangeType.CREATED));
+        index.onCaseChanged(new ImageCaseChangedEvent(3L, ChangeType.DELETED));
+        index.onCaseChanged(new ImageCaseChangedEvent(3L, ChangeType.DELETED));
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(drawnIds()).containsExactlyInAnyOrder(1L, 2L, 4L);
+    }
+
+    @Test
+    void removalMovesTheLastIdIntoTheFreedSlot() {
+        dbIds = () -> List.of(1L, 2L, 3L, 4L, 5L);
+        index.rebuild();
+
+        index.remove(2L);
+        index.remove(5L);
+        index.remove(1L);
+        index.add(6L);
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(drawnIds()).containsExactlyInAnyOrder(3L, 4L, 6L);
+
+        index.remove(3L);
+        index.remove(4L);
+        index.remove(6L);
+        assertThat(index.size()).isZero();
+        assertThat(index.randomId()).isEmpty();
+    }
+
+    @Test
+    void staleIdIsEvictedAndTheDrawRetriedAfterRebuild() {
+        dbIds = () -> List.of(7L);
+        index.rebuild();
+        dbIds = () -> List.of(8L);
+        existingIds = Set.of(8L);
+
+        Optional<ImageCase> drawn = new CaseQueryService(repository, index).findRandomCase();
+
+        assertThat(drawn).isPresent();
+        assertThat(drawnIds()).containsExactly(8L);
+        assertThat(meterRegistry.get("dxvision.case.random.index").tag("result", "miss").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("dxvision.case.random.index").tag("result", "hit").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void changesMadeWhileRebuildingAreReplayedOntoTheSnapshot() {
+        dbIds = () -> {
+            // 스냅샷 조회 이후 커밋된 변경
+            index.add(10L);
+            index.remove(1L);
+            return List.of(1L, 2L);
+        };
+        index.rebuild();
+        assertThat(drawnIds()).containsExactlyInAnyOrder(2L, 10L);
+
+        dbIds = () -> {
+            index.add(11L);
+            throw new IllegalStateException("db down");
+        };
+        assertThatThrownBy(index::rebuild).isInstanceOf(IllegalStateException.class);
+        assertThat(drawnIds()).containsExactlyInAnyOrder(2L, 10L, 11L);
+
+        // 실패한 재구성의 기록은 다음 재구성에 섞이지 않음
+        dbIds = () -> List.of(2L);
+        index.rebuild();
+        assertThat(drawnIds()).containsExactly(2L);
+    }
+
+    private Set<Long> drawnIds() {
+        Set<Long> drawn = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            index.randomId().ifPresent(drawn::add);
+        }
+        return drawn;
+    }
+
+    private ImageCaseRepository stubRepository() {
+        return (ImageCaseRepository) Proxy.newProxyInstance(
+                ImageCaseRepository.class.getClassLoader(),
+                new Class<?>[] {ImageCaseRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findAllIds" -> dbIds.get();
+                    case "findWithOptionsById" -> existingIds.contains((Long) args[0])
+                            ? Optional.of(imageCase())
+                            : Optional.empty();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+
+    private static ImageCase imageCase() {
+        return new ImageCase(
+                "Case",
+                "Desc",
+                Modality.XRAY,
+                Species.DOG,
+                "http://example.com/image.jpg",
+                LesionShapeType.CIRCLE,
+                """
+                {"type":"CIRCLE","cx":0.5,"cy":0.5,"r":0.2}
+                """
+        );
+    }
+}
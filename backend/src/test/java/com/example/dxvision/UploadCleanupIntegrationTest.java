@@ -0,0 +1,74 @@
+package com.example.dxvision;
+
+import com.example.dxvision.domain.casefile.ImageCase;
+import com.example.dxvision.domain.casefile.LesionShapeType;
+import com.example.dxvision.domain.casefile.Modality;
+import com.example.dxvision.domain.casefile.Species;
+import com.example.dxvision.domain.repository.ImageCaseRepository;
+import com.example.dxvision.global.storage.FileStorageService;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.upload.delete-grace-period=1h")
+@Transactional
+class UploadCleanupIntegrationTest {
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    private ImageCaseRepository imageCaseRepository;
+
+    @Test
+    void skippedDeletesAreSweptOncePastTheGracePeriod() throws Exception {
+        String orphanUrl = store("orphan");
+        Path orphan = fileStorageService.resolveLocal(orphanUrl).orElseThrow();
+        Path orphanThumb = orphan.resolveSibling(orphan.getFileName().toString().replace(".png", "_thumb.jpg"));
+        Files.write(orphanThumb, new byte[] {1});
+
+        // 유예 시간 안에서는 삭제 요청도 sweep 도 건너뜀
+        assertThat(fileStorageService.deleteUnreferenced(orphanUrl)).isFalse();
+        fileStorageService.sweepUnreferenced();
+        assertThat(orphan).exists();
+
+        String referencedUrl = store("referenced");
+        Path referenced = fileStorageService.resolveLocal(referencedUrl).orElseThrow();
+        imageCaseRepository.saveAndFlush(new ImageCase(
+                "Referenced",
+                "Desc",
+                Modality.XRAY,
+                Species.DOG,
+                referencedUrl,
+                LesionShapeType.CIRCLE,
+                """
+                {"type":"CIRCLE","cx":0.5,"cy":0.5,"r":0.2}
+                """
+        ));
+
+        FileTime expired = FileTime.from(Instant.now().minus(Duration.ofHours(2)));
+        Files.setLastModifiedTime(orphan, expired);
+        Files.setLastModifiedTime(referenced, expired);
+        fileStorageService.sweepUnreferenced();
+
+        assertThat(orphan).doesNotExist();
+        assertThat(orphanThumb).doesNotExist();
+        assertThat(referenced).exists();
+    }
+
+    private String store(String prefix) {
+        byte[] body = (prefix + "-" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+        return fileStorageService.store(new MockMultipartFile("image", "scan.png", MediaType.IMAGE_PNG_VALUE, body));
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.dxvision;
+
+import com.example.dxvision.global.storage.FileStorageService;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class UploadServingIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Test
+    void uploadsAreServedWithContentHashEtagRangesAndImmutableCaching() throws Exception {
+        byte[] body = ("upload-" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+        String url = fileStorageService.store(new MockMultipartFile("image", "scan.png", MediaType.IMAGE_PNG_VALUE, body));
+        String etag = "\"" + url.substring(url.lastIndexOf('/') + 1) + "\"";
+
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(content().contentType(MediaType.IMAGE_PNG))
+                .andExpect(content().bytes(body));
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/" + body.length))
+                .andExpect(content().bytes(Arrays.copyOfRange(body, 2, 6)));
+
+        // 검증자가 바뀌었으면 범위 대신 전체 응답
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=2-5").header(HttpHeaders.IF_RANGE, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(body));
+
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=" + body.length + "-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + body.length));
+
+        mockMvc.perform(head(url))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, body.length))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void missingAndHiddenUploadPathsAreNotFound() throws Exception {
+        mockMvc.perform(get("/uploads/sha256/00/00/missing.png"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/uploads/.incoming/upload-1.tmp"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/uploads/sha256"))
+                .andExpect(status().isNotFound());
+    }
+}
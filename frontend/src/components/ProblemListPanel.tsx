@@ -62,6 +62,7 @@ export default function ProblemListPanel({ className }: { className?: string })
     const size = 300;
     const [items, setItems] = useState<CaseListItem[]>([]);
     const [totalElements, setTotalElements] = useState(0);
+    const [truncated, setTruncated] = useState(false);
     const [loading, setLoading] = useState(false);
     const [error, setError] = useState<string | null>(null);
 
@@ -105,6 +106,7 @@ export default function ProblemListPanel({ className }: { className?: string })
     const applyResponse = (data: PageResponse<CaseListItem>) => {
         setItems(data.content);
         setTotalElements(data.totalElements);
+        setTruncated(Boolean(data.truncated));
     };
 
     const handleRandomPlay = async () => {
@@ -198,7 +200,7 @@ export default function ProblemListPanel({ className }: { className?: string })
 
             <div className="mt-4 grow space-y-2 overflow-hidden">
                 <div className="flex items-center justify-between text-xs text-slate-400">
-                    <span>{loading ? "Loading..." : `${totalElements} results`}</span>
+                    <span>{loading ? "Loading..." : `${totalElements}${truncated ? "+" : ""} results`}</span>
                     <span className="text-[11px] uppercase tracking-wide text-slate-500">Scroll to browse</span>
                 </div>
                 <div className="scrollbar-hide h-full max-h-[520px] overflow-y-auto pr-1 md:max-h-[620px] lg:max-h-[500px]">
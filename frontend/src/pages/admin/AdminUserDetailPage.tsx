@@ -2,7 +2,7 @@ import { useEffect, useState } from "react";
 import { Link, useParams } from "react-router-dom";
 import AdminLayout from "../../components/AdminLayout";
 import { api } from "../../lib/api";
-import { type UserCaseStatus, getStatusMeta } from "../../types/case";
+import { type PageResponse, type UserCaseStatus, getStatusMeta } from "../../types/case";
 
 type UserStatus = "ACTIVE" | "DISABLED";
 
@@ -39,9 +39,13 @@ type AdminUserDetail = {
     createdAt: string;
     stats: AdminUserStats;
     caseProgress: AdminUserCaseProgress[];
+    caseProgressTotal: number;
     recentActivities: AdminUserActivity[];
 };
 
+// 상세 응답의 첫 페이지 크기와 동일
+const CASE_PAGE_SIZE = 20;
+
 const USER_STATUS_META: Record<UserStatus, string> = {
     ACTIVE: "bg-emerald-500/20 text-emerald-200 border-emerald-500/50",
     DISABLED: "bg-red-500/20 text-red-200 border-red-500/50",
@@ -53,6 +57,10 @@ export default function AdminUserDetailPage() {
     const [loading, setLoading] = useState(true);
     const [error, setError] = useState<string | null>(null);
     const [saving, setSaving] = useState(false);
+    const [cases, setCases] = useState<AdminUserCaseProgress[]>([]);
+    const [casePage, setCasePage] = useState(0);
+    const [caseTotalPages, setCaseTotalPages] = useState(0);
+    const [casesLoading, setCasesLoading] = useState(false);
 
     const loadUser = async () => {
         if (!userId) return;
@@ -61,6 +69,9 @@ export default function AdminUserDetailPage() {
         try {
             const detail = await api.get<AdminUserDetail>(`/admin/users/${userId}`);
             setData(detail);
+            setCases(detail.caseProgress);
+            setCasePage(0);
+            setCaseTotalPages(Math.ceil(detail.caseProgressTotal / CASE_PAGE_SIZE));
         } catch (err: any) {
             setError(err?.message || "Failed to load user");
         } finally {
@@ -68,6 +79,24 @@ export default function AdminUserDetailPage() {
         }
     };
 
+    const loadCases = async (pageIndex: number) => {
+        if (!userId) return;
+        setCasesLoading(true);
+        setError(null);
+        try {
+            const page = await api.get<PageResponse<AdminUserCaseProgress>>(
+                `/admin/users/${userId}/cases?page=${pageIndex}&size=${CASE_PAGE_SIZE}&sort=title,asc`
+            );
+            setCases(page.content);
+            setCasePage(page.page);
+            setCaseTotalPages(page.totalPages);
+        } catch (err: any) {
+            setError(err?.message || "Failed to load case progress");
+        } finally {
+            setCasesLoading(false);
+        }
+    };
+
     useEffect(() => {
         loadUser();
     }, [userId]);
@@ -159,8 +188,31 @@ export default function AdminUserDetailPage() {
                     </section>
 
                     <section className="rounded-xl border border-slate-800 bg-slate-900/60">
-                        <div className="border-b border-slate-800 px-5 py-3 text-sm font-semibold text-slate-200">
-                            Per-case Progress
+                        <div className="flex items-center justify-between border-b border-slate-800 px-5 py-3 text-sm">
+                            <span className="font-semibold text-slate-200">
+                                Per-case Progress ({data.caseProgressTotal})
+                            </span>
+                            <div className="flex items-center gap-2 text-xs text-slate-400">
+                                <span>
+                                    Page {casePage + 1} of {Math.max(caseTotalPages, 1)}
+                                </span>
+                                <button
+                                    className="rounded border border-slate-700 px-3 py-1 hover:border-teal-400 disabled:opacity-40"
+                                    disabled={casesLoading || casePage <= 0}
+                                    onClick={() => loadCases(casePage - 1)}
+                                    type="button"
+                                >
+                                    Prev
+                                </button>
+                                <button
+                                    className="rounded border border-slate-700 px-3 py-1 hover:border-teal-400 disabled:opacity-40"
+                                    disabled={casesLoading || casePage + 1 >= caseTotalPages}
+                                    onClick={() => loadCases(casePage + 1)}
+                                    type="button"
+                                >
+                                    Next
+                                </button>
+                            </div>
                         </div>
                         <div className="overflow-x-auto">
                             <table className="min-w-full divide-y divide-slate-800 text-sm">
@@ -173,7 +225,7 @@ export default function AdminUserDetailPage() {
                                     </tr>
                                 </thead>
                                 <tbody className="divide-y divide-slate-800 text-slate-100">
-                                    {data.caseProgress.map((item) => (
+                                    {cases.map((item) => (
                                         <tr key={item.caseId}>
                                             <td className="px-4 py-3">
                                                 <div className="font-semibold text-slate-100">Case #{item.caseId}</div>
@@ -17,6 +17,7 @@ export type PageResponse<T> = {
     size: number;
     totalElements: number;
     totalPages: number;
+    truncated?: boolean;
 };
 
 export type StatusMeta = { label: string; color: string; bg: string; textClass: string };